@@ -0,0 +1,134 @@
+package neoguri.springTemplate.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * 요청 실행기 비교 : Tomcat 기본 플랫폼 스레드 풀(200) vs loom 프로필의 요청당 가상 스레드 (VirtualThreadConfig)
+ * 동시 요청 concurrency건을 한 번에 보내고 모두 끝날 때까지의 시간(op)과 요청별 지연 p99(마지막 측정 반복 기준, TearDown에서 출력)를 측정
+ *
+ * 요청 1건 = Redis 대기(1ms) + DB 커넥션 획득 후 쿼리 대기(2ms)
+ * DB 커넥션 수(dbPoolSize) : 50 = application-loom.yml의 Hikari 크기, 100000 = 커넥션 제한이 없는 경우(대기가 Redis/외부 호출뿐인 요청)
+ * 실제 애플리케이션이 아니라 블로킹 I/O를 sleep으로 흉내 낸 실행기 모델이다.
+ * virtual 은 JDK 21 이상에서만 실행 가능 (JAVA_HOME을 JDK 21로 지정해 실행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long REDIS_MILLIS = 1;
+    private static final long QUERY_MILLIS = 2;
+
+    @Param({"platform", "virtual"})
+    private String executor;
+
+    @Param({"200", "2000"})
+    private int concurrency;
+
+    @Param({"50", "100000"})
+    private int dbPoolSize;
+
+    private ExecutorService executorService;
+    private Semaphore dbPool;
+
+    private long[] latencies = new long[0];
+    private int recorded;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        dbPool = new Semaphore(dbPoolSize, true);
+        executorService = "virtual".equals(executor)
+                ? (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null)
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLatencies() {
+        recorded = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.shutdownNow();
+
+        long[] sorted = Arrays.copyOf(latencies, recorded);
+        Arrays.sort(sorted);
+        if (sorted.length > 0) {
+            System.out.printf("%n[%s, concurrency=%d, dbPoolSize=%d] requests=%d, p50=%.1fms, p99=%.1fms, max=%.1fms%n", executor, concurrency, dbPoolSize, sorted.length,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+        }
+    }
+
+
+    @Benchmark
+    public void burst() throws InterruptedException {
+        long[] burstLatencies = new long[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long submitted = System.nanoTime();
+
+        for (int i = 0; i < concurrency; i++) {
+            int index = i;
+            executorService.execute(() -> {
+                try {
+                    handleRequest();
+                } finally {
+                    burstLatencies[index] = System.nanoTime() - submitted;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        record(burstLatencies);
+    }
+
+
+    private void handleRequest() {
+        try {
+            Thread.sleep(REDIS_MILLIS);
+            dbPool.acquire();
+            try {
+                Thread.sleep(QUERY_MILLIS);
+            } finally {
+                dbPool.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(long[] burstLatencies) {
+        if (latencies.length < recorded + burstLatencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, recorded + burstLatencies.length));
+        }
+        System.arraycopy(burstLatencies, 0, latencies, recorded, burstLatencies.length);
+        recorded += burstLatencies.length;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1e6;
+    }
+}
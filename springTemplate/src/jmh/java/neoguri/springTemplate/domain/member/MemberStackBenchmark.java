@@ -0,0 +1,150 @@
+package neoguri.springTemplate.domain.member;
+
+import neoguri.springTemplate.SpringTemplateApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * 같은 회원 API를 서블릿 스택(Tomcat + JPA)과 reactive 스택(Netty + R2DBC)으로 각각 띄워 HTTP 부하 비교
+ * 동시 요청 concurrency건을 한 번에 보내고 모두 끝날 때까지의 시간(op)과 요청별 지연 p99(마지막 측정 반복 기준, TearDown에서 출력)를 측정
+ * - find : GET /member/find/{memberId} (회원 1명)
+ * - findAll : GET /member/find-all (1페이지, 20명)
+ *
+ * 인증 없는 조회만 사용하므로 Redis 없이 실행됨. DB는 두 스택 모두 H2 메모리 DB (test 프로필)
+ * 같은 JVM에서 부하 클라이언트(HttpClient)와 서버가 CPU를 나눠 쓰므로 절대값보다 스택 간 상대 비교용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 2)  // 요청 처리 경로 전체가 JIT 컴파일될 때까지
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberStackBenchmark {
+
+    private static final int MEMBER_COUNT = 100;
+
+    @Param({"servlet", "reactive"})
+    private String stack;
+
+    @Param({"200"})
+    private int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    private long[] latencies = new long[0];
+    private int recorded;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        String profiles = "reactive".equals(stack) ? "test,reactive" : "test";
+        context = new SpringApplicationBuilder(SpringTemplateApplication.class)
+                .run("--spring.profiles.active=" + profiles, "--server.port=0", "--jwt.key.secret=member-stack-benchmark-secret-key-0123456789",
+                        "--decorator.datasource.p6spy.enable-logging=false", "--logging.level.root=WARN");  // application.yml의 local 프로필 대신 사용
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        clientExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        httpClient = HttpClient.newBuilder().executor(clientExecutor).build();
+
+        for (int i = 1; i <= MEMBER_COUNT; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/member"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                            "{\"email\":\"member%d@test.com\",\"password\":\"password%d!\",\"nickname\":\"member%d\",\"profile\":\"\"}", i, i, i)))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) throw new IllegalStateException("회원 등록 실패 : " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLatencies() {
+        recorded = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        clientExecutor.shutdownNow();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printLatencies() {
+        long[] sorted = Arrays.copyOf(latencies, recorded);
+        Arrays.sort(sorted);
+        if (sorted.length > 0) {
+            System.out.printf("%n[%s, concurrency=%d] requests=%d, p50=%.1fms, p99=%.1fms, max=%.1fms%n", stack, concurrency, sorted.length,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+        }
+    }
+
+
+    @Benchmark
+    public void find() {
+        burst(index -> "/member/find/" + (index % MEMBER_COUNT + 1) + "?memberId=" + (index % MEMBER_COUNT + 1));
+    }
+
+    @Benchmark
+    public void findAll() {
+        burst(index -> "/member/find-all?page=1&size=20");
+    }
+
+
+    private void burst(java.util.function.IntFunction<String> path) {
+        long[] burstLatencies = new long[concurrency];
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+        long submitted = System.nanoTime();
+
+        for (int i = 0; i < concurrency; i++) {
+            int index = i;
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path.apply(i))).GET().build();
+            responses[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) throw new IllegalStateException("조회 실패 : " + response.statusCode());
+                        burstLatencies[index] = System.nanoTime() - submitted;
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        record(burstLatencies);
+    }
+
+    private void record(long[] burstLatencies) {
+        if (latencies.length < recorded + burstLatencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, recorded + burstLatencies.length));
+        }
+        System.arraycopy(burstLatencies, 0, latencies, recorded, burstLatencies.length);
+        recorded += burstLatencies.length;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1e6;
+    }
+}
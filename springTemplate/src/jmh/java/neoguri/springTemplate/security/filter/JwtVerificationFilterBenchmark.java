@@ -0,0 +1,107 @@
+package neoguri.springTemplate.security.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import neoguri.springTemplate.security.jwt.JwtKeyManager;
+import neoguri.springTemplate.security.jwt.JwtTokenizer;
+import neoguri.springTemplate.security.jwt.VerifiedTokenCache;
+import neoguri.springTemplate.security.redis.LogoutDenylist;
+import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+
+/**
+ * 요청 1건당 JwtVerificationFilter 비용과 다음 필터 호출 횟수
+ * - anonymous : Authorization 헤더 없음 (shouldNotFilter로 바로 통과)
+ * - bearer : AccessToken 검증(검증 결과 캐시 사용) + SecurityContext 설정
+ * 다음 필터 호출 횟수는 chainInvocations / requests 로 확인 (요청당 1이어야 함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationFilterBenchmark {
+
+    private static final String SECRET = "jwt-verification-filter-benchmark-secret-key";
+
+    private JwtVerificationFilter jwtVerificationFilter;
+    private String authorization;
+
+    private long requests;
+    private long chainInvocations;
+    private final FilterChain filterChain = (request, response) -> chainInvocations++;
+
+    @Setup
+    public void setUp() {
+        JwtTokenizer jwtTokenizer = tokenizer();
+        jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, new CustomAuthorityUtils(), mock(LogoutDenylist.class));
+        authorization = "Bearer " + jwtTokenizer.delegateAccessToken(1L, "member@test.com", List.of("USER"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (requests != chainInvocations) {
+            throw new IllegalStateException("다음 필터 호출 횟수 불일치 : requests=" + requests + ", chainInvocations=" + chainInvocations);
+        }
+    }
+
+
+    @Benchmark
+    public MockHttpServletRequest anonymous() throws ServletException, IOException {
+        return filter(new MockHttpServletRequest());
+    }
+
+    @Benchmark
+    public MockHttpServletRequest bearer() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        return filter(request);
+    }
+
+
+    private MockHttpServletRequest filter(MockHttpServletRequest request) throws ServletException, IOException {
+        requests++;
+        jwtVerificationFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        SecurityContextHolder.clearContext();
+        return request;
+    }
+
+    private static JwtTokenizer tokenizer() {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(true, 1000, new SimpleMeterRegistry());
+        JwtKeyManager keyManager = new JwtKeyManager(verifiedTokenCache, SECRET, JwtKeyManager.SigningAlgorithm.HMAC, "", "", "", "");
+        keyManager.init();
+
+        JwtTokenizer tokenizer = new JwtTokenizer(verifiedTokenCache, keyManager);
+        ReflectionTestUtils.setField(tokenizer, "secretKey", SECRET);
+        ReflectionTestUtils.setField(tokenizer, "accessTokenExpirationMinutes", 30);
+        ReflectionTestUtils.setField(tokenizer, "refreshTokenExpirationMinutes", 1440);
+        ReflectionTestUtils.setField(tokenizer, "refreshSessionMaxMinutes", 10080);
+        ReflectionTestUtils.setField(tokenizer, "tokenProfile", JwtTokenizer.TokenProfile.COMPACT);
+        tokenizer.init();
+        return tokenizer;
+    }
+}
@@ -0,0 +1,69 @@
+package neoguri.springTemplate.security.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import neoguri.springTemplate.security.dto.LoginDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * 로그인 요청 body 파싱 비용 비교 (AuthenticationManager는 받은 토큰을 그대로 반환)
+ * - objectMapperPerRequest : 요청마다 ObjectMapper 생성 후 readValue (이전 방식)
+ * - sharedReader : JwtAuthenticationFilter.attemptAuthentication (공유 ObjectReader + 크기 제한 스트림)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginBodyBenchmark {
+
+    private static final byte[] LOGIN_BODY = "{\"email\":\"member@test.com\",\"password\":\"password123!\"}".getBytes(StandardCharsets.UTF_8);
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Setup
+    public void setUp() {
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(authentication -> authentication, null, null);
+    }
+
+
+    @Benchmark
+    public LoginDto objectMapperPerRequest() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        return objectMapper.readValue(loginRequest().getInputStream(), LoginDto.class);
+    }
+
+    @Benchmark
+    public Authentication sharedReader() {
+        return jwtAuthenticationFilter.attemptAuthentication(loginRequest(), response);
+    }
+
+
+    /**
+     * MockHttpServletRequest의 InputStream은 한 번만 읽을 수 있으므로 매번 생성 (두 방식 모두 같은 비용)
+     */
+    private static MockHttpServletRequest loginRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setContentType("application/json");
+        request.setContent(LOGIN_BODY);
+        return request;
+    }
+}
@@ -0,0 +1,82 @@
+package neoguri.springTemplate.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * AccessToken 검증 비용 비교
+ * - perCallParser : 호출마다 Base64 디코딩 + 키 생성 + JwtParser 생성 (이전 방식, getClaims(jws, base64EncodedSecretKey))
+ * - cachedParser : init()에서 만든 JwtParser 재사용 (getClaims(jws))
+ * - verifiedTokenCache : 같은 토큰의 검증 결과 재사용 (getVerifiedClaims)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenizerBenchmark {
+
+    private static final String SECRET = "jwt-tokenizer-benchmark-secret-key-0123456789";
+
+    private JwtTokenizer jwtTokenizer;
+    private JwtTokenizer cachingJwtTokenizer;
+    private String base64EncodedSecretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenizer = tokenizer(false);
+        cachingJwtTokenizer = tokenizer(true);
+        base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(SECRET);
+        accessToken = jwtTokenizer.delegateAccessToken(1L, "member@test.com", List.of("USER"));
+    }
+
+
+    @Benchmark
+    public Jws<Claims> perCallParser() {
+        return jwtTokenizer.getClaims(accessToken, base64EncodedSecretKey);
+    }
+
+    @Benchmark
+    public Jws<Claims> cachedParser() {
+        return jwtTokenizer.getClaims(accessToken);
+    }
+
+    @Benchmark
+    public Claims verifiedTokenCache() {
+        return cachingJwtTokenizer.getVerifiedClaims(accessToken);
+    }
+
+
+    private static JwtTokenizer tokenizer(boolean cacheEnabled) {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(cacheEnabled, 1000, new SimpleMeterRegistry());
+        JwtKeyManager keyManager = new JwtKeyManager(verifiedTokenCache, SECRET, JwtKeyManager.SigningAlgorithm.HMAC, "", "", "", "");
+        keyManager.init();
+
+        JwtTokenizer tokenizer = new JwtTokenizer(verifiedTokenCache, keyManager);
+        ReflectionTestUtils.setField(tokenizer, "secretKey", SECRET);
+        ReflectionTestUtils.setField(tokenizer, "accessTokenExpirationMinutes", 30);
+        ReflectionTestUtils.setField(tokenizer, "refreshTokenExpirationMinutes", 1440);
+        ReflectionTestUtils.setField(tokenizer, "refreshSessionMaxMinutes", 10080);
+        ReflectionTestUtils.setField(tokenizer, "tokenProfile", JwtTokenizer.TokenProfile.COMPACT);
+        tokenizer.init();
+        return tokenizer;
+    }
+}
@@ -0,0 +1,19 @@
+package neoguri.springTemplate.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Cache 설정
+ * 캐시 저장소는 yml의 spring.cache.type으로 선택 (caffeine : 로컬 캐시 / redis : 여러 서버가 공유하는 캐시)
+ * 캐시별 hit/miss 메트릭은 actuator를 통해 cache.gets 등으로 노출됨
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 로그인시 사용하는 회원 인증정보(MemberAuthInfo) 캐시. key는 email
+     */
+    public static final String MEMBER_DETAILS_CACHE = "memberDetails";
+}
@@ -0,0 +1,69 @@
+package neoguri.springTemplate.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시(엔티티/컬렉션/쿼리 캐시) 설정. 저장소는 JCache(Caffeine) 로컬 캐시
+ * 2차 캐시 사용 여부, region factory, 통계(메트릭)는 yml의 spring.jpa.properties.hibernate.* 에서 설정
+ *
+ * region은 별도 설정 파일(application.conf) 대신 여기서 직접 만들어 Hibernate에 CacheManager를 넘겨줌
+ * - member, member.roles : Member 엔티티와 roles 컬렉션 (Member.java의 @Cache region)
+ * - default-query-results-region : 쿼리 캐시 (findByEmail 등 @QueryHints 적용 쿼리)
+ * - default-update-timestamps-region : 테이블별 마지막 수정시각. 쿼리 캐시 무효화 기준이므로 만료/제거되면 안됨
+ *
+ * 여러 서버간 무효화는 MemberCacheSync(Redis pub/sub)에서 처리
+ * hit/miss 메트릭은 actuator의 hibernate.second.level.cache.requests, hibernate.query.cache.requests 로 확인
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String MEMBER_REGION = "member";
+    public static final String MEMBER_ROLES_REGION = "member.roles";
+    static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${second-level-cache.maximum-size}") long maximumSize,
+                                              @Value("${second-level-cache.expire-after-write-seconds}") long expireAfterWriteSeconds) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        createRegion(cacheManager, MEMBER_REGION, maximumSize, expireAfterWriteSeconds);
+        createRegion(cacheManager, MEMBER_ROLES_REGION, maximumSize, expireAfterWriteSeconds);
+        createRegion(cacheManager, QUERY_RESULTS_REGION, maximumSize, expireAfterWriteSeconds);
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, 0, 0);
+        return cacheManager;
+    }
+
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+
+    /**
+     * @param maximumSize 0이면 크기 제한 없음
+     * @param expireAfterWriteSeconds 0이면 만료 없음
+     */
+    private void createRegion(CacheManager cacheManager, String region, long maximumSize, long expireAfterWriteSeconds) {
+        if (cacheManager.getCache(region) != null) return;
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maximumSize > 0) configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (expireAfterWriteSeconds > 0) configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(expireAfterWriteSeconds)));
+        configuration.setStatisticsEnabled(true);
+
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -3,9 +3,10 @@ package neoguri.springTemplate.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -18,7 +19,7 @@ public class RedisConfig {
     private int port;
 
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory() {
 //        redisStandaloneConfiguration.setPassword(redisPwd); // 패스워드 필요시
         return new LettuceConnectionFactory(host, port);
     }
@@ -31,4 +32,23 @@ public class RedisConfig {
         redisTemplate.setValueSerializer(new StringRedisSerializer());
         return redisTemplate;
     }
+
+    /**
+     * Lettuce의 비동기(reactive) API를 사용하는 템플릿. 하나의 커넥션 위에서 명령이 파이프라이닝되므로
+     * 로그인 폭주시에도 요청 스레드가 Redis 응답을 기다리지 않고 쓰기를 보낼 수 있음 (RefreshToken 저장 등)
+     */
+    @Bean
+    public ReactiveStringRedisTemplate reactiveStringRedisTemplate() {
+        return new ReactiveStringRedisTemplate(redisConnectionFactory());
+    }
+
+    /**
+     * Redis pub/sub 구독용 컨테이너 (로그아웃 블랙리스트 동기화 등)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
 }
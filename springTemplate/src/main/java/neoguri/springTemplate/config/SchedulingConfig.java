@@ -0,0 +1,12 @@
+package neoguri.springTemplate.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 로 등록한 주기 작업(로그아웃 Bloom Filter 재생성 등)을 사용하기 위한 설정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
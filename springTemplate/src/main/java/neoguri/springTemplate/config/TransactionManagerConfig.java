@@ -0,0 +1,30 @@
+package neoguri.springTemplate.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * JPA와 R2DBC(reactive 스택)가 함께 있을 때의 트랜잭션 매니저 설정
+ * Spring Boot는 TransactionManager 빈이 하나라도 있으면 JpaTransactionManager를 만들지 않는데,
+ * R2dbcTransactionManager도 TransactionManager이므로 등록 순서에 따라 JPA 트랜잭션 매니저가 빠질 수 있음
+ * -> JpaTransactionManager를 직접 등록하고 @Primary로 지정 (@Transactional은 JPA, TransactionalOperator는 R2DBC 사용)
+ */
+@Configuration
+public class TransactionManagerConfig {
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                         ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
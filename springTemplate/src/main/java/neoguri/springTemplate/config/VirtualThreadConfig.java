@@ -0,0 +1,69 @@
+package neoguri.springTemplate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * 가상 스레드(Virtual Thread) 실행 모드. loom 프로필에서만 적용 (JDK 21 이상에서 실행 필요)
+ * ex) java -jar app.jar --spring.profiles.active=local,loom
+ *
+ * - Tomcat : 요청마다 가상 스레드 1개 (플랫폼 스레드 풀 크기 제한 없이 JDBC/Redis 대기 중에도 캐리어 스레드를 반납)
+ * - @Async : 같은 가상 스레드 실행기 사용
+ * - 비밀번호 해싱은 CPU 작업이라 BoundedPasswordEncoder의 플랫폼 스레드 풀을 그대로 사용 (동시 해싱 수 제한 유지)
+ * - DB 커넥션 수는 요청 수가 아니라 Hikari 풀 크기로 제한됨 (application-loom.yml)
+ *
+ * 프로젝트는 Java 11로 컴파일되므로 Executors.newVirtualThreadPerTaskExecutor()는 리플렉션으로 호출하고, 지원하지 않는 JDK면 기동시 실패 처리
+ *
+ * 피닝(pinning) 방지 : synchronized 블록 안에서 블로킹하면 가상 스레드가 캐리어 스레드를 붙잡는다. (JDK 21 ~ 23)
+ * 이 프로젝트 코드는 synchronized 대신 ReentrantLock/Concurrent 자료구조만 사용하며,
+ * jdk.tracePinnedThreads가 설정되지 않았으면 short로 설정해 라이브러리에서 발생하는 피닝을 로그로 확인할 수 있게 한다.
+ */
+@Slf4j
+@Profile("loom")
+@EnableAsync
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final String TRACE_PINNED_THREADS = "jdk.tracePinnedThreads";
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        if (System.getProperty(TRACE_PINNED_THREADS) == null) System.setProperty(TRACE_PINNED_THREADS, "short");  // 첫 가상 스레드 생성 전에 설정해야 적용됨
+
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.info("Virtual thread executor enabled (Java {})", Runtime.version());
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("The loom profile requires JDK 21 or later (current: " + Runtime.version() + ")", e);
+        }
+    }
+
+
+    /**
+     * Tomcat 요청 처리 스레드를 가상 스레드로 교체
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+
+    /**
+     * @Async 실행기. Spring Boot 기본 실행기(applicationTaskExecutor) 대신 사용
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+}
@@ -0,0 +1,163 @@
+package neoguri.springTemplate.domain.member.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import neoguri.springTemplate.domain.member.entity.Member;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+
+/**
+ * Member 2차 캐시(HibernateCacheConfig) 무효화 컴포넌트
+ *
+ * 같은 서버 : JPA로 수정/삭제하면 Hibernate가 엔티티/컬렉션 캐시와 쿼리 캐시(테이블 수정시각)를 직접 갱신하므로 별도 처리 없음
+ * 다른 서버 : 커밋 후(Hibernate post-commit 이벤트) memberId를 Redis pub/sub으로 발행하고,
+ *            메세지를 받은 서버는 로컬 캐시에서 해당 회원과 쿼리 캐시를 제거 (Redis 커넥션은 RedisConfig 것을 그대로 사용)
+ *            등록시에는 쿼리 캐시 전체 무효화를 발행 (다른 서버에 캐싱된 "결과 없음" 이메일 조회 때문에 가입 직후 MEMBER_NOT_FOUND가 나지 않도록)
+ * JPA를 거치지 않는 수정(R2DBC 등)은 Hibernate가 알 수 없으므로 evictAndPublish()를 직접 호출
+ *
+ * second-level-cache.redis-invalidation이 false면 발행/구독하지 않음 (단일 서버)
+ */
+@Slf4j
+@Component
+public class MemberCacheSync implements MessageListener, PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    static final String CHANNEL = "member-cache:channel";
+    private static final String ALL_QUERIES = "*";  // 특정 회원이 아닌 쿼리 캐시 전체 무효화 메세지
+    private static final String ROLES_ROLE = Member.class.getName() + ".roles";
+
+    private final String nodeId = UUID.randomUUID().toString();  // 자신이 발행한 메세지는 무시하기 위함
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean redisInvalidation;
+
+    public MemberCacheSync(EntityManagerFactory entityManagerFactory,
+                           StringRedisTemplate redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           @Value("${second-level-cache.redis-invalidation}") boolean redisInvalidation) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisInvalidation = redisInvalidation;
+    }
+
+
+    @PostConstruct
+    public void init() {
+        if (!redisInvalidation) return;
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+
+    /**
+     * 로컬 2차 캐시에서 회원 정보 제거 (엔티티, roles 컬렉션, 쿼리 캐시)
+     */
+    public void evict(Long memberId) {
+        org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        cache.evictEntityData(Member.class, memberId);
+        cache.evictCollectionData(ROLES_ROLE, memberId);
+        cache.evictQueryRegions();  // 이메일/닉네임 조회 결과에 포함되어 있을 수 있음
+    }
+
+
+    /**
+     * JPA 밖에서 회원을 추가/수정/삭제한 경우 호출. 로컬 캐시를 비우고 다른 서버에도 알림
+     */
+    public void evictAndPublish(Long memberId) {
+        evict(memberId);
+        publish(memberId);
+    }
+
+
+    /**
+     * JDBC 일괄 등록(MemberImportService) 등 여러 회원을 한 번에 추가한 경우 호출. 쿼리 캐시만 비우고 다른 서버에도 알림
+     */
+    public void evictQueriesAndPublish() {
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictQueryRegions();
+        publish(ALL_QUERIES);
+    }
+
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Member) publish(ALL_QUERIES);  // 새 회원은 다른 서버의 엔티티 캐시에 없으므로 쿼리 캐시만 무효화
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Member) publish(event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Member) publish(event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {}
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {}
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {}
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return Member.class.equals(persister.getMappedClass());
+    }
+
+
+    /**
+     * 다른 서버에서 발행한 무효화 메세지 수신 ("nodeId:memberId" 혹은 "nodeId:*")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.US_ASCII);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) return;
+
+        String target = body.substring(separator + 1);
+        if (ALL_QUERIES.equals(target)) entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictQueryRegions();
+        else evict(Long.valueOf(target));
+    }
+
+
+    private void publish(Serializable target) {
+        if (!redisInvalidation) return;
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + target);
+        } catch (RuntimeException e) {  // 발행 실패시 다른 서버는 캐시 만료(expire-after-write-seconds)까지 이전 값을 볼 수 있음
+            log.warn("Member cache invalidation publish failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package neoguri.springTemplate.domain.member.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import neoguri.springTemplate.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+
+/**
+ * 가입된 이메일 Bloom Filter. 회원가입시 중복 확인 SELECT를 "이미 있을 수도 있는" 이메일에만 하기 위한 사전 확인용
+ * - mightExist가 false : 확실히 없는 이메일 -> SELECT 없이 바로 INSERT (대부분의 신규 가입)
+ * - mightExist가 true : 있을 수도 있음 -> SELECT로 확인 후 중복이면 INSERT 전에 거절
+ * 최종 중복 판단은 DB 유니크 인덱스(Member.EMAIL_UNIQUE_INDEX)가 하므로, 다른 서버에서 가입한 이메일을 모르더라도 중복 가입은 불가능
+ *
+ * 기동시, 그리고 주기적으로 DB의 이메일로 새로 생성 (삭제된 이메일 정리). 생성 전이거나 생성에 실패하면 항상 true(기존처럼 매번 SELECT)
+ * member-email-filter.enabled가 false면 사전 확인 없이 유니크 인덱스로만 판단
+ */
+@Slf4j
+@Component
+public class MemberEmailFilter {
+
+    private static final String SELECT_EMAILS_SQL = "SELECT email FROM Member WHERE email IS NOT NULL";
+    private static final int REBUILD_FETCH_SIZE = 1000;  // MySQL은 useCursorFetch(application-mysql.yml)가 있어야 적용됨
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile BloomFilter rebuildingFilter;  // 재생성 중에 가입한 이메일도 새 필터에 반영하기 위함
+
+    public MemberEmailFilter(JdbcTemplate jdbcTemplate,
+                             @Value("${member-email-filter.enabled}") boolean enabled,
+                             @Value("${member-email-filter.expected-insertions}") long expectedInsertions,
+                             @Value("${member-email-filter.false-positive-rate}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+
+    /**
+     * @return 가입된 이메일일 가능성이 있으면 true (중복 확인 SELECT 필요)
+     */
+    public boolean mightExist(String email) {
+        if (!enabled || email == null) return false;
+
+        BloomFilter filter = bloomFilter;
+        return filter == null || filter.mightContain(hash(email));
+    }
+
+
+    /**
+     * 가입(일괄 등록 포함)한 이메일 추가
+     * 재생성이 끝나며 필터가 교체되는 사이(bloomFilter 교체 -> rebuildingFilter 해제)에 호출되면 어느 쪽에도 들어가지 않을 수 있으므로,
+     * 마지막에 현재 필터를 다시 읽어 바뀌었으면 새 필터에도 추가
+     */
+    public void put(String email) {
+        if (!enabled || email == null) return;
+
+        byte[] hash = hash(email);
+        BloomFilter filter = bloomFilter;
+        if (filter != null) filter.put(hash);
+        BloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) rebuilding.put(hash);
+
+        BloomFilter current = bloomFilter;
+        if (current != filter && current != rebuilding) current.put(hash);
+    }
+
+
+    /**
+     * DB의 이메일 전체로 필터를 새로 생성 (REBUILD_FETCH_SIZE 단위로 읽으므로 회원 수와 상관없이 필터 크기만큼의 메모리 사용)
+     * 기동 직후 스케줄러가 처음 실행하며, 그 전까지는 mightExist가 항상 true
+     */
+    @Scheduled(fixedDelayString = "${member-email-filter.rebuild-interval-millis}")
+    public void rebuild() {
+        if (!enabled) return;
+
+        BloomFilter newFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = newFilter;
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_EMAILS_SQL);
+                statement.setFetchSize(REBUILD_FETCH_SIZE);  // 공유 JdbcTemplate의 설정은 바꾸지 않고 이 조회에만 적용
+                return statement;
+            }, rs -> {
+                String email = rs.getString(1);
+                if (email != null) newFilter.put(hash(email));
+            });
+            bloomFilter = newFilter;
+        } catch (RuntimeException e) {
+            log.warn("Member email bloom filter rebuild failed: {}", e.getMessage());
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+
+    /**
+     * 대소문자만 다른 이메일은 같은 값으로 취급 (MySQL 기본 collation 기준). 잘못 판단해도 SELECT가 한 번 더 나갈 뿐
+     */
+    private static byte[] hash(String email) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
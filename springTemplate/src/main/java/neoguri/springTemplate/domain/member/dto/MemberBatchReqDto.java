@@ -0,0 +1,12 @@
+package neoguri.springTemplate.domain.member.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+public class MemberBatchReqDto {
+
+    private List<Long> memberIds;
+}
@@ -0,0 +1,19 @@
+package neoguri.springTemplate.domain.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 조회 결과 (요청한 memberId 순서대로 하나씩)
+ * found가 false면 member는 응답에서 생략
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MemberBatchResDto {
+
+    private Long memberId;
+    private boolean found;
+    private MemberResDto member;
+}
@@ -0,0 +1,42 @@
+package neoguri.springTemplate.domain.member.dto;
+
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+
+/**
+ * 회원 목록 커서 조회용 continuation token 변환 유틸
+ * 마지막으로 받은 memberId를 "m1:<memberId>" 형식으로 만든 뒤 Base64(URL-safe)로 인코딩 (클라이언트는 값의 의미를 알 필요 없음)
+ * "m1" 접두어는 형식 버전. 정렬 기준이 바뀌면 버전을 올리고 이전 커서는 INVALID_CURSOR로 처리
+ */
+public final class MemberCursor {
+
+    private static final String PREFIX = "m1:";
+
+    private MemberCursor() {}
+
+
+    public static String encode(Long memberId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + memberId).getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * @param cursor 이전 응답의 nextCursor. null이나 빈 값이면 첫 페이지
+     * @return 이 memberId 다음부터 조회. 첫 페이지면 null
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            return Long.valueOf(decoded.substring(PREFIX.length()));
+        }
+        catch (IllegalArgumentException e) { throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR); }  // Base64/숫자 형식 오류
+    }
+}
@@ -0,0 +1,24 @@
+package neoguri.springTemplate.domain.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 등록 결과 (행 단위). NDJSON으로 한 줄씩 응답
+ * line : 요청 본문의 물리적 행 번호 (1부터, CSV 헤더와 빈 줄 포함. 편집기/에러 위치와 같은 번호)
+ * status : CREATED, DUPLICATE(이미 있거나 같은 요청 안에서 중복된 이메일/닉네임), INVALID(형식 오류)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MemberImportResDto {
+
+    public enum Status { CREATED, DUPLICATE, INVALID }
+
+    private long line;
+    private String email;
+    private Status status;
+    private Long memberId;
+    private String message;
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import neoguri.springTemplate.auditing.BaseTimeEntity;
 import neoguri.springTemplate.domain.member.entity.Member;
 
+import java.time.LocalDateTime;
+
 @Getter @Setter
 public class MemberResDto extends BaseTimeEntity {
 
@@ -28,6 +30,19 @@ public class MemberResDto extends BaseTimeEntity {
         super.setCreatedAt(member.getCreatedAt());
         super.setModifiedAt(member.getModifiedAt());
     }
-}
 
 
+    /**
+     * MemberRepository의 생성자 프로젝션(SELECT new ...)용. 엔티티/roles를 로딩하지 않고 필요한 컬럼만 조회
+     */
+    public MemberResDto(Long memberId, String email, String nickname, String profile, Member.MemberStatus memberStatus,
+                        LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.memberId = memberId;
+        this.email = email;
+        this.nickname = nickname;
+        this.profile = profile;
+        this.memberStatus = memberStatus.getStatus();
+        super.setCreatedAt(createdAt);
+        super.setModifiedAt(modifiedAt);
+    }
+}
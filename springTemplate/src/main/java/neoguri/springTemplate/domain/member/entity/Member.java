@@ -2,8 +2,12 @@ package neoguri.springTemplate.domain.member.entity;
 
 import lombok.*;
 import neoguri.springTemplate.auditing.BaseTimeEntity;
+import neoguri.springTemplate.config.HibernateCacheConfig;
 import neoguri.springTemplate.exception.dto.BusinessLogicException;
 import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -15,8 +19,21 @@ import java.util.Optional;
 @Builder
 @Getter
 @Entity
+@DynamicUpdate  // 변경감지시 바뀐 컬럼만 UPDATE (회원 정보 부분 수정)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.MEMBER_REGION)  // 2차 캐시 (수정시 Hibernate가 갱신, 다른 서버는 MemberCacheSync가 무효화)
+@Table(indexes = {
+        @Index(name = Member.EMAIL_UNIQUE_INDEX, columnList = "email", unique = true),
+        @Index(name = Member.NICKNAME_UNIQUE_INDEX, columnList = "nickname", unique = true)
+})
 public class Member extends BaseTimeEntity {
 
+    /**
+     * 중복 가입 방지용 유니크 인덱스. 위반시 MemberConstraints에서 EMAIL_EXIST / NICKNAME_EXIST로 변환
+     */
+    public static final String EMAIL_UNIQUE_INDEX = "uk_member_email";
+    public static final String NICKNAME_UNIQUE_INDEX = "uk_member_nickname";
+
     @Id
     @Setter // 시큐리티 MemberDetailsService 내 MemberDetails생성을 위해 적용 (추후 변경 검토)
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -40,11 +57,19 @@ public class Member extends BaseTimeEntity {
     @Column(length = 20, nullable = false)  // 컬럼설정 지정 안할시 오류 발생 => Unable to instantiate custom type: org.hibernate.type.EnumType 에러발생
     private MemberStatus memberStatus;
 
+    /**
+     * 낙관적 락용 버전. 수정시 "WHERE version = ?" 조건으로 동시 수정을 감지 (MemberService.updateWithRetry)
+     * JPA 밖에서 INSERT하는 경우(MemberImportService, MemberRecord) 0으로 저장
+     */
+    @Version
+    private Long version;
+
     /**
      * Member 객체에 대한 역할 테이블을 자동 생생 후 역할을 부여 (시큐리티를 통해 작동)
      */
     @Setter // 시큐리티 MemberDetailsService 내 MemberDetails생성을 위해 적용 (추후 변경 검토)
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.MEMBER_ROLES_REGION)
     List<String> roles = new ArrayList<>();
 
 
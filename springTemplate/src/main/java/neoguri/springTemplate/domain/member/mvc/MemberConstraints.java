@@ -0,0 +1,39 @@
+package neoguri.springTemplate.domain.member.mvc;
+
+import neoguri.springTemplate.domain.member.entity.Member;
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+
+/**
+ * Member 테이블 유니크 인덱스 위반(DataIntegrityViolationException)을 비즈니스 예외로 변환하는 유틸
+ * 위반된 인덱스 이름은 DB마다 예외 메세지 형식이 달라, 원인 예외들의 제약조건 이름/메세지에 인덱스 이름이 포함되어 있는지로 판단
+ * ex) H2 : Unique index or primary key violation: "PUBLIC.UK_MEMBER_EMAIL_INDEX_8 ON ..." / MySQL : Duplicate entry '...' for key 'Member.uk_member_email'
+ */
+public final class MemberConstraints {
+
+    private MemberConstraints() {}
+
+
+    /**
+     * @return EMAIL_EXIST / NICKNAME_EXIST 예외. 회원 유니크 인덱스 위반이 아니면 받은 예외 그대로
+     */
+    public static RuntimeException translate(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String violation = describe(cause);
+            if (violation.contains(Member.EMAIL_UNIQUE_INDEX)) return new BusinessLogicException(ExceptionCode.EMAIL_EXIST);
+            if (violation.contains(Member.NICKNAME_UNIQUE_INDEX)) return new BusinessLogicException(ExceptionCode.NICKNAME_EXIST);
+        }
+        return e;
+    }
+
+
+    private static String describe(Throwable cause) {
+        String constraintName = cause instanceof ConstraintViolationException ? ((ConstraintViolationException) cause).getConstraintName() : null;
+        return (constraintName + " " + cause.getMessage()).toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,27 +1,51 @@
 package neoguri.springTemplate.domain.member.mvc;
 
 import lombok.RequiredArgsConstructor;
+import neoguri.springTemplate.domain.member.dto.MemberBatchReqDto;
+import neoguri.springTemplate.domain.member.dto.MemberBatchResDto;
+import neoguri.springTemplate.domain.member.dto.MemberCursor;
 import neoguri.springTemplate.domain.member.dto.MemberPatchReqDto;
 import neoguri.springTemplate.domain.member.dto.MemberPostReqDto;
 import neoguri.springTemplate.domain.member.dto.MemberResDto;
 import neoguri.springTemplate.domain.member.entity.Member;
+import neoguri.springTemplate.dto.CursorResDto;
 import neoguri.springTemplate.dto.MultiResDto;
 import neoguri.springTemplate.dto.SingleResDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/member")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class MemberController {
 
+    /**
+     * 전체 내보내기(/export) 응답 제한시간. 이 요청에만 적용 (다른 비동기 요청은 기본값 유지)
+     */
+    private static final long EXPORT_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
     private final MemberService memberService;
+    private final MemberImportService memberImportService;
+    private final MemberExportService memberExportService;
 
     /**
      * Post 요청
@@ -35,6 +59,27 @@ public class MemberController {
     }
 
 
+    /**
+     * 회원 일괄 등록 요청 (NDJSON 또는 CSV). 요청 본문을 읽는 대로 처리하고 결과도 처리되는 대로 응답에 씀
+     * Content-Type이 text/csv면 CSV(첫 줄은 헤더 : email,password,nickname,profile), application/x-ndjson이면 한 줄에 MemberPostReqDto 하나
+     * ADMIN 권한 필요 (SecurityConfiguration)
+     * @return 행 단위 결과 (application/x-ndjson)
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public void importMembers (HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MemberImportService.Format format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(new MediaType("text", "csv"))
+                ? MemberImportService.Format.CSV : MemberImportService.Format.NDJSON;
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            memberImportService.importMembers(reader, format, response.getOutputStream());
+        }
+    }
+
+
     /**
      * Patch 요청
      * @return "data" : "String"
@@ -84,8 +129,20 @@ public class MemberController {
      */
     @GetMapping("/find/{memberId}")
     public ResponseEntity<SingleResDto<MemberResDto>> getMember (@RequestParam Long memberId) {
-        Member member = memberService.findMember(memberId);
-        MemberResDto response = new MemberResDto(member);
+        MemberResDto response = memberService.findMember(memberId);
+
+        return new ResponseEntity<>(new SingleResDto<>(response), HttpStatus.OK);
+    }
+
+
+    /**
+     * 여러 회원 일괄 조회 요청. 목록 화면에서 회원마다 /find/{memberId}를 호출하는 대신 한 번에 조회
+     * @param memberBatchReqDto : "memberIds" : [1, 2, 3] (최대 MemberService.MAX_BATCH_SIZE개)
+     * @return "data" : "요청 순서대로의 조회 결과 (없는 회원은 found : false)"
+     */
+    @PostMapping("/find-batch")
+    public ResponseEntity<SingleResDto<List<MemberBatchResDto>>> getMembersByIds (@RequestBody MemberBatchReqDto memberBatchReqDto) {
+        List<MemberBatchResDto> response = memberService.findMembersByIds(memberBatchReqDto.getMemberIds());
 
         return new ResponseEntity<>(new SingleResDto<>(response), HttpStatus.OK);
     }
@@ -97,11 +154,87 @@ public class MemberController {
      */
     @GetMapping("/find-all")
     public ResponseEntity<MultiResDto<MemberResDto>> getMembers (Pageable pageable) {
-        Page<Member> page = memberService.findMembers(pageable);
-        Page<MemberResDto> response = page.map(MemberResDto::new);
-        List<MemberResDto> list = response.stream().collect(Collectors.toList());
+        Page<MemberResDto> page = memberService.findMembers(pageable);
+        List<MemberResDto> list = page.getContent();
 
         return new ResponseEntity<>(new MultiResDto<>(list, page), HttpStatus.OK);
     }
 
+
+    /**
+     * 커서(keyset) 기반 Page Get 요청. 회원 수가 많은 경우 사용 (작은 테이블은 /find-all 그대로 사용)
+     * @param cursor : 이전 응답의 cursorInfo.nextCursor (첫 페이지는 생략)
+     * @param count : true일 때만 전체 회원 수(totalElements) 조회
+     * @return "data" : "회원 목록", "cursorInfo" : "다음 페이지 커서"
+     */
+    @GetMapping("/find-all/cursor")
+    public ResponseEntity<CursorResDto<MemberResDto>> getMembersByCursor (@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "20") int size,
+                                                                          @RequestParam(defaultValue = "false") boolean count) {
+        Slice<MemberResDto> slice = memberService.findMembersAfter(MemberCursor.decode(cursor), size);
+        List<MemberResDto> list = slice.getContent();
+
+        String nextCursor = slice.hasNext() ? MemberCursor.encode(list.get(list.size() - 1).getMemberId()) : null;
+        Long totalElements = count ? memberService.countMembers() : null;
+
+        return new ResponseEntity<>(new CursorResDto<>(list, slice.hasNext(), nextCursor, totalElements), HttpStatus.OK);
+    }
+
+
+    /**
+     * 전체 회원 내보내기 요청. 전체 목록을 메모리에 모으지 않고 한 줄(MemberResDto)씩 스트리밍
+     * Accept-Encoding에 gzip이 있으면 gzip으로 압축해서 응답. ADMIN 권한 필요 (SecurityConfiguration)
+     * 요청 스레드를 반납하고 MemberExportService의 전용 실행기에서 비동기로 쓰며, 제한시간은 이 요청에만 EXPORT_TIMEOUT_MILLIS 적용 (기본값(Tomcat 30초)이면 중간에 끊김)
+     * @return application/x-ndjson
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportMembers (@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                             HttpServletResponse response) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        WebAsyncTask<Void> exportTask = memberExportService.asyncExport(EXPORT_TIMEOUT_MILLIS, () -> {
+            if (!gzip) {
+                memberExportService.exportMembers(response.getOutputStream());
+                return null;
+            }
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(response.getOutputStream(), 8192, true);  // flush시 압축된 데이터도 바로 전송
+            memberExportService.exportMembers(gzipOutputStream);
+            gzipOutputStream.finish();
+            return null;
+        });
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        return exportTask;
+    }
+
+
+    /**
+     * Accept-Encoding에 gzip(혹은 x-gzip)이 q=0이 아닌 값으로 있는지 확인. 예) "gzip, br" -> true, "gzip;q=0, br" -> false
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equalsIgnoreCase("x-gzip")) continue;
+
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (!param.regionMatches(true, 0, "q=", 0, 2)) continue;
+                try {
+                    if (Double.parseDouble(param.substring(2).trim()) <= 0) return false;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
 }
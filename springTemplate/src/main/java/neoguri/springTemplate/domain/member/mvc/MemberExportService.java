@@ -0,0 +1,116 @@
+package neoguri.springTemplate.domain.member.mvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import neoguri.springTemplate.domain.member.dto.MemberResDto;
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+
+/**
+ * 전체 회원 내보내기 (NDJSON)
+ * 페이지 조회(/find-all)를 반복하면 요청마다 COUNT(*)와 OFFSET 스캔이 다시 실행되므로, 쿼리 1회로 전체를 순회하며 한 줄씩 씀
+ * 메모리 사용량은 테이블 크기와 상관없이 fetch size(MemberRepository.EXPORT_FETCH_SIZE)만큼으로 유지됨
+ *
+ * 내보내기는 수십 분까지 걸릴 수 있으므로 MVC 기본 비동기 실행기가 아닌 전용 스레드(member-export.max-concurrent개)에서 실행
+ * 동시에 그 수를 넘는 요청은 스레드를 만들거나 대기시키지 않고 바로 EXPORT_OVERLOADED(503)로 거절
+ * 메트릭 : executor.* (name=memberExport)
+ */
+@Service
+public class MemberExportService implements DisposableBean {
+
+    static final int FLUSH_INTERVAL = 1000;
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter memberWriter;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final TaskExecutorAdapter executor;
+    private final Semaphore slots;  // 실행중 + 대기중인 내보내기 수 제한 (실행기가 거절하기 전에 요청 스레드에서 판단)
+
+    public MemberExportService(MemberRepository memberRepository,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${member-export.max-concurrent}") int maxConcurrent) {
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.memberWriter = objectMapper.writerFor(MemberResDto.class);  // API 응답과 같은 날짜 형식 사용
+        this.threadPoolExecutor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrent), new CustomizableThreadFactory("member-export-"));  // 자리를 반납한 직후의 스레드를 기다리는 용도
+        this.executor = new TaskExecutorAdapter(ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, "memberExport"));
+        this.slots = new Semaphore(maxConcurrent);
+    }
+
+
+    /**
+     * 내보내기 작업을 전용 실행기에서 실행하는 WebAsyncTask로 만듦. 제한시간은 이 작업에만 적용
+     * @param timeoutMillis 비동기 요청 제한시간
+     * @param task 응답 스트림에 쓰는 작업 (exportMembers 호출)
+     * @throws BusinessLogicException 동시에 실행중인 내보내기가 member-export.max-concurrent개면 EXPORT_OVERLOADED
+     */
+    public WebAsyncTask<Void> asyncExport(long timeoutMillis, Callable<Void> task) {
+        if (!slots.tryAcquire()) throw new BusinessLogicException(ExceptionCode.EXPORT_OVERLOADED);
+
+        return new WebAsyncTask<>(timeoutMillis, executor, () -> {
+            try {
+                return task.call();
+            } finally {
+                slots.release();  // 제한시간이 지나도 쓰기가 끝날 때까지는 자리를 차지
+            }
+        });
+    }
+
+
+    /**
+     * Stream은 트랜잭션(커넥션)이 열려있는 동안만 읽을 수 있으므로, 쓰기까지 읽기 전용 트랜잭션 안에서 처리
+     * @param out 응답 스트림. FLUSH_INTERVAL 행마다 flush
+     */
+    public void exportMembers(OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<MemberResDto> members = memberRepository.streamAllResDto()) {
+                Iterator<MemberResDto> iterator = members.iterator();
+                long count = 0;
+
+                while (iterator.hasNext()) {
+                    out.write(memberWriter.writeValueAsBytes(iterator.next()));
+                    out.write(NEW_LINE);
+                    if (++count % FLUSH_INTERVAL == 0) out.flush();
+                }
+                out.flush();
+            } catch (IOException e) {  // 클라이언트 연결 종료 등
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+
+    @Override
+    public void destroy() {
+        threadPoolExecutor.shutdown();
+    }
+}
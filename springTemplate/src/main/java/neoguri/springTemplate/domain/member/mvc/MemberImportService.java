@@ -0,0 +1,333 @@
+package neoguri.springTemplate.domain.member.mvc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import neoguri.springTemplate.domain.member.cache.MemberCacheSync;
+import neoguri.springTemplate.domain.member.cache.MemberEmailFilter;
+import neoguri.springTemplate.domain.member.dto.MemberImportResDto;
+import neoguri.springTemplate.domain.member.dto.MemberPostReqDto;
+import neoguri.springTemplate.domain.member.entity.Member;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+
+/**
+ * 회원 일괄 등록 (NDJSON / CSV)
+ *
+ * MemberService.createMember는 행마다 이메일 조회 + INSERT를 하고, IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못한다.
+ * 여기서는 JPA를 거치지 않고 CHUNK_SIZE 행씩 처리
+ * 1. 요청 본문을 한 줄씩 읽어 검증 (전체를 메모리에 올리지 않음)
+ * 2. 청크의 이메일을 IN 조회 1회로 중복 확인
+ * 3. Member, Member_roles를 JDBC 배치 INSERT (청크 단위 트랜잭션)
+ * 4. 행 단위 결과를 NDJSON으로 바로 응답에 씀
+ *
+ * 비밀번호는 "{bcrypt}$2a$10$..." 형식의 bcrypt 해시만 받음 (행마다 bcrypt 해싱을 하면 100만 건에 수십 시간이 걸리므로)
+ * {noop} 등 다른 인코딩은 평문 저장과 같으므로 INVALID 처리
+ * JPA를 거치지 않으므로 청크 커밋 후 2차 캐시의 쿼리 캐시를 직접 비움 (findByEmail 등)
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberImportService {
+
+    public enum Format { NDJSON, CSV }
+
+    static final int CHUNK_SIZE = 1000;
+    static final String DEFAULT_ROLE = "USER";
+
+    /**
+     * DelegatingPasswordEncoder의 bcrypt 형식 : {bcrypt}$2a$(cost 2자리)$(salt 22자 + hash 31자)
+     */
+    private static final Pattern BCRYPT_PASSWORD = Pattern.compile("^\\{bcrypt}\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    private static final String INSERT_MEMBER_SQL = "INSERT INTO Member (email, password, nickname, profile, memberStatus, createdAt, last_modified_at, version) "
+            + "VALUES (:email, :password, :nickname, :profile, :memberStatus, :createdAt, :createdAt, 0)";
+    private static final String INSERT_ROLE_SQL = "INSERT INTO Member_roles (Member_memberId, roles) VALUES (:memberId, :role)";
+    private static final String SELECT_ID_BY_EMAIL_SQL = "SELECT memberId, email FROM Member WHERE email IN (:emails)";
+    private static final String SELECT_NICKNAME_SQL = "SELECT nickname FROM Member WHERE nickname IN (:nicknames)";
+
+    private static final ObjectReader ROW_READER = new ObjectMapper()
+            .readerFor(MemberPostReqDto.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final ObjectWriter RESULT_WRITER = new ObjectMapper().writerFor(MemberImportResDto.class);
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberCacheSync memberCacheSync;
+    private final MemberEmailFilter memberEmailFilter;
+
+    /**
+     * @param reader 요청 본문
+     * @param out 결과(NDJSON)를 쓸 응답 스트림. 청크마다 flush
+     */
+    public void importMembers(BufferedReader reader, Format format, OutputStream out) throws IOException {
+        String defaultProfile = defaultProfile();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        long lineNumber = 0;
+
+        if (format == Format.CSV && reader.readLine() != null) lineNumber++;  // 헤더 (email,password,nickname,profile)
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;  // 빈 줄도 세어서 물리적 행 번호를 응답
+            if (line.isBlank()) continue;
+
+            chunk.add(parseRow(lineNumber, line, format, defaultProfile));
+            if (chunk.size() == CHUNK_SIZE) {
+                writeResults(importChunk(chunk), out);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) writeResults(importChunk(chunk), out);
+    }
+
+
+    /**
+     * 청크 단위 처리. 중복 확인부터 INSERT까지 하나의 트랜잭션
+     * 중복 확인과 INSERT 사이에 다른 요청(회원가입 등)이 같은 이메일/닉네임을 먼저 저장하면 유니크 인덱스 위반으로 청크 전체가 롤백되므로,
+     * 이 경우 해당 청크만 한 행씩 다시 처리해서 위반한 행만 DUPLICATE로 응답 (나머지 행과 이후 청크는 계속 진행)
+     */
+    private List<MemberImportResDto> importChunk(List<Row> chunk) {
+        List<MemberImportResDto> results;
+        try {
+            results = transactionTemplate.execute(status -> insertChunk(chunk));
+        } catch (DataIntegrityViolationException e) {
+            results = importRowByRow(chunk);
+        }
+
+        if (results == null) return List.of();
+
+        boolean anyCreated = false;
+        for (MemberImportResDto result : results) {
+            if (result.getStatus() != MemberImportResDto.Status.CREATED) continue;
+            memberEmailFilter.put(result.getEmail());
+            anyCreated = true;
+        }
+        if (anyCreated) memberCacheSync.evictQueriesAndPublish();
+        return results;
+    }
+
+
+    /**
+     * 동시 가입과 겹친 청크를 한 행씩 각자의 트랜잭션으로 처리
+     */
+    private List<MemberImportResDto> importRowByRow(List<Row> chunk) {
+        List<MemberImportResDto> results = new ArrayList<>(chunk.size());
+
+        for (Row row : chunk) {
+            row.duplicate = null;  // 롤백된 청크에서 정한 값은 무시하고 다시 확인
+            List<Row> single = List.of(row);
+            try {
+                List<MemberImportResDto> result = transactionTemplate.execute(status -> insertChunk(single));
+                if (result != null) results.addAll(result);
+            } catch (DataIntegrityViolationException e) {
+                row.duplicate = "이메일/닉네임 중복";
+                results.addAll(toResults(single, Map.of()));
+            }
+        }
+        return results;
+    }
+
+
+    /**
+     * 중복 확인 후 INSERT. 트랜잭션 안에서 호출
+     * 이메일/닉네임 유니크 인덱스(Member)를 위반하는 행은 INSERT 전에 걸러냄 (배치 중 하나라도 위반하면 청크 전체가 실패하므로)
+     */
+    private List<MemberImportResDto> insertChunk(List<Row> chunk) {
+        Set<String> emails = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        for (Row row : chunk) {
+            if (row.error != null) continue;
+            emails.add(row.member.getEmail());
+            if (row.member.getNickname() != null) nicknames.add(row.member.getNickname());
+        }
+
+        Set<String> claimedEmails = new HashSet<>(selectMemberIds(emails).keySet());
+        Set<String> claimedNicknames = selectExistingNicknames(nicknames);
+        List<Row> inserts = new ArrayList<>();
+        for (Row row : chunk) {
+            if (row.error != null) continue;
+
+            String email = row.member.getEmail();
+            String nickname = row.member.getNickname();
+            if (claimedEmails.contains(email)) row.duplicate = "이메일 중복";
+            else if (nickname != null && claimedNicknames.contains(nickname)) row.duplicate = "닉네임 중복";
+            else {
+                claimedEmails.add(email);
+                if (nickname != null) claimedNicknames.add(nickname);
+                inserts.add(row);
+            }
+        }
+
+        Map<String, Long> created = insertMembers(inserts);
+        return toResults(chunk, created);
+    }
+
+
+    /**
+     * Member, Member_roles 배치 INSERT 후 생성된 memberId를 이메일로 다시 조회 (드라이버마다 배치 generated keys 지원이 달라서)
+     */
+    private Map<String, Long> insertMembers(List<Row> inserts) {
+        if (inserts.isEmpty()) return Map.of();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] memberParams = new SqlParameterSource[inserts.size()];
+        for (int i = 0; i < inserts.size(); i++) {
+            Member member = inserts.get(i).member;
+            memberParams[i] = new MapSqlParameterSource()
+                    .addValue("email", member.getEmail())
+                    .addValue("password", member.getPassword())
+                    .addValue("nickname", member.getNickname())
+                    .addValue("profile", member.getProfile())
+                    .addValue("memberStatus", member.getMemberStatus().name())
+                    .addValue("createdAt", now);
+        }
+        jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, memberParams);
+
+        Set<String> emails = new HashSet<>();
+        inserts.forEach(row -> emails.add(row.member.getEmail()));
+        Map<String, Long> created = selectMemberIds(emails);
+
+        SqlParameterSource[] roleParams = created.values().stream()
+                .map(memberId -> new MapSqlParameterSource().addValue("memberId", memberId).addValue("role", DEFAULT_ROLE))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_ROLE_SQL, roleParams);
+
+        return created;
+    }
+
+
+    private Set<String> selectExistingNicknames(Set<String> nicknames) {
+        if (nicknames.isEmpty()) return new HashSet<>();
+        return new HashSet<>(jdbcTemplate.queryForList(SELECT_NICKNAME_SQL, Map.of("nicknames", nicknames), String.class));
+    }
+
+
+    private Map<String, Long> selectMemberIds(Set<String> emails) {
+        Map<String, Long> memberIds = new HashMap<>();
+        if (emails.isEmpty()) return memberIds;
+
+        jdbcTemplate.query(SELECT_ID_BY_EMAIL_SQL, Map.of("emails", emails),
+                rs -> { memberIds.put(rs.getString("email"), rs.getLong("memberId")); });
+        return memberIds;
+    }
+
+
+    private List<MemberImportResDto> toResults(List<Row> chunk, Map<String, Long> created) {
+        List<MemberImportResDto> results = new ArrayList<>(chunk.size());
+
+        for (Row row : chunk) {
+            if (row.error != null) results.add(new MemberImportResDto(row.line, row.email, MemberImportResDto.Status.INVALID, null, row.error));
+            else if (row.duplicate != null) results.add(new MemberImportResDto(row.line, row.email, MemberImportResDto.Status.DUPLICATE, null, row.duplicate));
+            else results.add(new MemberImportResDto(row.line, row.email, MemberImportResDto.Status.CREATED, created.get(row.email), null));
+        }
+        return results;
+    }
+
+
+    private void writeResults(List<MemberImportResDto> results, OutputStream out) throws IOException {
+        for (MemberImportResDto result : results) {
+            out.write(RESULT_WRITER.writeValueAsBytes(result));
+            out.write(NEW_LINE);
+        }
+        out.flush();
+    }
+
+
+    private Row parseRow(long lineNumber, String line, Format format, String defaultProfile) {
+        MemberPostReqDto dto;
+        try {
+            dto = format == Format.CSV ? parseCsv(line) : ROW_READER.readValue(line);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return Row.invalid(lineNumber, null, "형식 오류");
+        }
+
+        if (dto.getEmail() == null || dto.getEmail().isBlank()) return Row.invalid(lineNumber, null, "이메일 누락");
+        if (dto.getPassword() == null || !BCRYPT_PASSWORD.matcher(dto.getPassword()).matches()) return Row.invalid(lineNumber, dto.getEmail(), "bcrypt 해시 비밀번호({bcrypt}$2a$..) 필요");
+
+        Member member = dto.toEntity();
+        if (member.getProfile() == null) member.modifyProfile(defaultProfile);
+        return new Row(lineNumber, dto.getEmail(), member, null);
+    }
+
+
+    /**
+     * email,password,nickname,profile 순서의 CSV 한 줄. 큰따옴표로 감싼 값(쉼표, "" 포함) 지원
+     */
+    static MemberPostReqDto parseCsv(String line) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') { field.append('"'); i++; }
+                else if (c == '"') quoted = false;
+                else field.append(c);
+            }
+            else if (c == '"') quoted = true;
+            else if (c == ',') { fields.add(field.toString()); field.setLength(0); }
+            else field.append(c);
+        }
+        if (quoted) throw new IllegalArgumentException("unterminated quote");
+        fields.add(field.toString());
+
+        MemberPostReqDto dto = new MemberPostReqDto();
+        dto.setEmail(csvValue(fields, 0));
+        dto.setPassword(csvValue(fields, 1));
+        dto.setNickname(csvValue(fields, 2));
+        dto.setProfile(csvValue(fields, 3));
+        return dto;
+    }
+
+
+    private static String csvValue(List<String> fields, int index) {
+        if (index >= fields.size() || fields.get(index).isEmpty()) return null;
+        return fields.get(index);
+    }
+
+
+    private static String defaultProfile() {
+        Member member = new Member();
+        member.defaultProfile();
+        return member.getProfile();
+    }
+
+
+    @RequiredArgsConstructor
+    private static class Row {
+        private final long line;
+        private final String email;
+        private final Member member;
+        private final String error;
+        private String duplicate;  // 이미 가입되었거나 같은 요청 안에서 중복된 경우 사유
+
+        static Row invalid(long line, String email, String error) {
+            return new Row(line, email, null, error);
+        }
+    }
+}
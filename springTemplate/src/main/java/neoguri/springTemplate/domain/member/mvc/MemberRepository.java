@@ -1,16 +1,77 @@
 package neoguri.springTemplate.domain.member.mvc;
 
+import neoguri.springTemplate.domain.member.dto.MemberResDto;
 import neoguri.springTemplate.domain.member.entity.Member;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
+    String CACHEABLE = org.hibernate.annotations.QueryHints.CACHEABLE;  // 쿼리 캐시 사용 힌트 (HibernateCacheConfig)
+    String FETCH_SIZE = org.hibernate.annotations.QueryHints.FETCH_SIZE;
+    String EXPORT_FETCH_SIZE = "1000";
+
+    /**
+     * 로그인/중복 확인에서 자주 조회하므로 쿼리 캐시 사용 (결과 memberId만 캐싱, 엔티티는 2차 캐시에서 조회)
+     * Member 테이블이 수정되면 Hibernate가 쿼리 캐시를 자동으로 무효화
+     */
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     Optional<Member> findByEmail(String email);
 
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
     @Query(value = "SELECT m FROM Member m WHERE m.nickname =:nickname")
     Optional<Member> findByNickname(String nickname);
 
+    /**
+     * 조회 API용 생성자 프로젝션. MemberResDto에 필요한 컬럼만 SELECT 하므로
+     * Member 엔티티 생성, roles(@ElementCollection EAGER) 추가 조회, 영속성 컨텍스트 스냅샷이 없음
+     */
+    String MEMBER_RES_DTO_SELECT = "SELECT new neoguri.springTemplate.domain.member.dto.MemberResDto("
+            + "m.memberId, m.email, m.nickname, m.profile, m.memberStatus, m.createdAt, m.modifiedAt) FROM Member m";
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    @Query(value = MEMBER_RES_DTO_SELECT + " WHERE m.memberId = :memberId")
+    Optional<MemberResDto> findResDtoByMemberId(Long memberId);
+
+    /**
+     * 일괄 조회용 (IN 조회 1회)
+     */
+    @Query(value = MEMBER_RES_DTO_SELECT + " WHERE m.memberId IN :memberIds")
+    List<MemberResDto> findResDtoByMemberIdIn(Collection<Long> memberIds);
+
+    @Query(value = MEMBER_RES_DTO_SELECT, countQuery = "SELECT COUNT(m) FROM Member m")
+    Page<MemberResDto> findAllResDto(Pageable pageable);
+
+    /**
+     * 커서(keyset) 조회용. memberId(PK 인덱스) 기준으로 바로 찾아가므로 페이지가 깊어져도 OFFSET처럼 느려지지 않음
+     * Slice 반환이라 COUNT 쿼리 없이 size + 1건만 조회해 다음 페이지 여부를 판단
+     */
+    @Query(value = MEMBER_RES_DTO_SELECT + " WHERE m.memberId > :memberId")
+    Slice<MemberResDto> findResDtoSliceAfter(Long memberId, Pageable pageable);
+
+    /**
+     * 커서 조회의 첫 페이지용 (COUNT 쿼리 없음)
+     */
+    @Query(value = MEMBER_RES_DTO_SELECT)
+    Slice<MemberResDto> findResDtoSlice(Pageable pageable);
+
+    /**
+     * 전체 회원 내보내기용 (MemberExportService). 결과를 List로 모으지 않고 JDBC ResultSet을 FETCH_SIZE 단위로 읽으며 순회
+     * DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않음. 트랜잭션 안에서 사용하고 반드시 close 해야 함
+     * MySQL은 useCursorFetch가 켜져 있어야 fetch size를 지킴 (application-mysql.yml). 없으면 드라이버가 결과 전체를 메모리에 읽음
+     */
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(value = MEMBER_RES_DTO_SELECT + " ORDER BY m.memberId")
+    Stream<MemberResDto> streamAllResDto();
+
 }
@@ -1,27 +1,79 @@
 package neoguri.springTemplate.domain.member.mvc;
 
+import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import neoguri.springTemplate.domain.member.cache.MemberCacheSync;
+import neoguri.springTemplate.domain.member.cache.MemberEmailFilter;
+import neoguri.springTemplate.domain.member.dto.MemberBatchResDto;
+import neoguri.springTemplate.domain.member.dto.MemberResDto;
 import neoguri.springTemplate.domain.member.entity.Member;
 import neoguri.springTemplate.exception.dto.BusinessLogicException;
 import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import neoguri.springTemplate.security.userDetail.MemberDetailsCacheSync;
+import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 100;
+    static final int MAX_UPDATE_ATTEMPTS = 3;
+    static final long UPDATE_RETRY_BACKOFF_MILLIS = 20;
+
     private final MemberRepository memberRepository;
+    private final MemberDetailsCacheSync memberDetailsCacheSync;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberCacheSync memberCacheSync;
+    private final MemberEmailFilter memberEmailFilter;
+    private final RefreshTokenStore refreshTokenStore;
+    private final CustomAuthorityUtils customAuthorityUtils;
 
+    /**
+     * 중복 이메일/닉네임은 DB 유니크 인덱스로 판단 (동시에 같은 이메일로 가입해도 하나만 성공)
+     * 가입된 적 있을 수 있는 이메일(MemberEmailFilter)만 INSERT 전에 조회해서 미리 거절
+     * 역할이 없으면 CustomAuthorityUtils.createRoles 기준으로 부여 (reactive 스택 가입과 동일)
+     */
     @Transactional
     public Member createMember(Member member) {
-        verifyNotExistEmail(member.getEmail());
+        if (memberEmailFilter.mightExist(member.getEmail())) verifyNotExistEmail(member.getEmail());
         member.defaultProfile();
+        if (member.getRoles() == null || member.getRoles().isEmpty())
+            member.setRoles(new ArrayList<>(customAuthorityUtils.createRoles(member.getEmail())));
+
+        Member savedMember;
+        try {
+            savedMember = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            throw MemberConstraints.translate(e);
+        }
 
-        return memberRepository.save(member);
+        memberEmailFilter.put(savedMember.getEmail());
+        return savedMember;
     }
 
 
@@ -30,60 +82,156 @@ public class MemberService {
      * 1. 회원 정보 변경 가능
      * 2. 회원 상태 변경 가능
      * 비즈니스 로직은 Member Entity 내에서 처리
+     * 변경감지(@DynamicUpdate)로 바뀐 컬럼만 UPDATE 되므로 save를 호출하지 않음. 동시 수정 충돌시 updateWithRetry에서 재시도
      */
-    @Transactional
     public void modifyMember(Member member, Long memberId) {
-        Member existMember = new Member().verifyMember(memberRepository.findById(memberId));
-
-        String encodedPassword = null;
-        Optional.ofNullable(encodedPassword).ifPresent(existMember::modifyPassword);
-        Optional.ofNullable(member.getNickname()).ifPresent(existMember::modifyNickname);
-        Optional.ofNullable(member.getProfile()).ifPresent(existMember::modifyProfile);  // 현재 profile의 경우 단순 URI상태. 추후 파일로 변경 예정
-        Optional.ofNullable(member.getMemberStatus()).ifPresent(existMember::modifyMemberStatus);
-
-        memberRepository.save(existMember);
+        updateWithRetry(memberId, existMember -> {
+            Optional.ofNullable(member.getNickname()).ifPresent(existMember::modifyNickname);
+            Optional.ofNullable(member.getProfile()).ifPresent(existMember::modifyProfile);  // 현재 profile의 경우 단순 URI상태. 추후 파일로 변경 예정
+            Optional.ofNullable(member.getMemberStatus()).ifPresent(existMember::modifyMemberStatus);
+        });
     }
 
     /**
-     * Member 완전 삭제시 사용
+     * Member 완전 삭제시 사용. 저장된 RefreshToken도 삭제해 재발급을 막음
      */
-    @Transactional
     public void removeMember(Long memberId) {
-        Member verifyMember = new Member().verifyMember(memberRepository.findById(memberId));
-        memberRepository.delete(verifyMember);
+        updateWithRetry(memberId, memberRepository::delete);
+        endSessions(memberId);
     }
 
 
     /**
      * Member Entity클래스 내 구현한 회원탈퇴 메소드(withdrawMember 호출)
      */
-    @Transactional
     public void withdrawMember(Long memberId) {
-        Member verifyMember = new Member().verifyMember(memberRepository.findById(memberId));
-        verifyMember.withdrawMember();
-        memberRepository.save(verifyMember);
+        updateWithRetry(memberId, Member::withdrawMember);
     }
 
+
     /**
-     * 현재는 Controller에서 String 반환중
+     * 회원 조회 -> 수정을 하나의 트랜잭션으로 실행하고, 커밋 후 인증정보 캐시를 비움
+     * 상태/ROLE/비밀번호가 바뀌었으면(탈퇴 포함) 커밋 후 저장된 RefreshToken도 삭제해 이전 정보로 재발급받지 못하게 함
+     * 다른 요청이 먼저 수정해 버전(@Version)이 맞지 않으면 최신 상태를 다시 읽어 MAX_UPDATE_ATTEMPTS번까지 재시도
+     * (트랜잭션 단위로 재시도해야 하므로 @Transactional 대신 TransactionTemplate 사용)
+     */
+    private void updateWithRetry(Long memberId, Consumer<Member> update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                UpdateResult result = transactionTemplate.execute(status -> {
+                    Member existMember = new Member().verifyMember(memberRepository.findById(memberId));
+                    Member.MemberStatus memberStatus = existMember.getMemberStatus();
+                    List<String> roles = new ArrayList<>(existMember.getRoles());
+                    String password = existMember.getPassword();
+
+                    update.accept(existMember);
+
+                    boolean authChanged = memberStatus != existMember.getMemberStatus()
+                            || !roles.equals(existMember.getRoles())
+                            || !Objects.equals(password, existMember.getPassword());
+                    return new UpdateResult(existMember.getEmail(), authChanged);
+                });
+                evictMemberDetails(result.email);
+                if (result.authChanged) endSessions(memberId);
+                return;
+            } catch (DataIntegrityViolationException e) {  // 닉네임 중복 (커밋시 UPDATE에서 발생)
+                throw MemberConstraints.translate(e);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_UPDATE_ATTEMPTS) throw new BusinessLogicException(ExceptionCode.MEMBER_UPDATE_CONFLICT);
+
+                memberCacheSync.evict(memberId);  // 다른 서버에서 수정된 경우 2차 캐시에 이전 버전이 남아있을 수 있음
+                backoff(attempt);
+            }
+        }
+    }
+
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(UPDATE_RETRY_BACKOFF_MILLIS) * attempt);  // 동시에 재시도하지 않도록 지터 적용
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessLogicException(ExceptionCode.MEMBER_UPDATE_CONFLICT);
+        }
+    }
+
+    /**
+     * 단일 회원 조회. 엔티티 대신 MemberResDto 프로젝션으로 조회 (SQL 1회, roles 조회 없음)
      *
      * @param memberId : 추후 시큐리티 구현 후 적용될 예정
-     * @return : 1명의 member 정보를 반환 => 맞춰서 ResponseDto 제작 예정
+     * @return : 1명의 member 정보를 반환
      */
-    public Member findMember(Long memberId) {
-        Member member = new Member().verifyMember(memberRepository.findById(memberId));
-        return member;
+    @Transactional(readOnly = true)
+    public MemberResDto findMember(Long memberId) {
+        return memberRepository.findResDtoByMemberId(memberId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
+    }
+
+
+    /**
+     * 여러 회원 일괄 조회. 중복을 제거한 id로 IN 조회 1회 후, 요청 순서대로 결과를 만듦 (없는 id는 found = false)
+     *
+     * @param memberIds : 최대 MAX_BATCH_SIZE개 (중복 id는 각각 결과에 포함)
+     * @return 요청 순서와 같은 순서의 결과
+     */
+    @Transactional(readOnly = true)
+    public List<MemberBatchResDto> findMembersByIds(List<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) return List.of();
+        if (memberIds.size() > MAX_BATCH_SIZE) throw new BusinessLogicException(ExceptionCode.BATCH_SIZE_EXCEEDED);
+
+        Set<Long> distinctIds = new LinkedHashSet<>(memberIds);
+        distinctIds.remove(null);
+
+        Map<Long, MemberResDto> found = distinctIds.isEmpty() ? Map.of()
+                : memberRepository.findResDtoByMemberIdIn(distinctIds).stream()
+                        .collect(Collectors.toMap(MemberResDto::getMemberId, Function.identity()));
+
+        List<MemberBatchResDto> results = new ArrayList<>(memberIds.size());
+        for (Long memberId : memberIds) {
+            MemberResDto member = memberId == null ? null : found.get(memberId);
+            results.add(new MemberBatchResDto(memberId, member != null, member));
+        }
+        return results;
     }
 
 
     /**
      * 전체 회원 조회용 (Default는 10계정)
      *
+     * 목록 조회 + COUNT 조회, SQL 2회 (MemberResDto 프로젝션이라 roles 조회 없음)
+     *
      * @param pageable : page, size, sort 등 사용 가능
      * @return Page 구조
      */
-    public Page<Member> findMembers(Pageable pageable) {
-        return memberRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public Page<MemberResDto> findMembers(Pageable pageable) {
+        return memberRepository.findAllResDto(pageable);
+    }
+
+
+    /**
+     * 전체 회원 커서(keyset) 조회용. memberId 오름차순 (IDENTITY라 가입 순서와 같음)
+     * 테이블이 큰 경우 사용. OFFSET/COUNT 없이 이전 페이지의 마지막 memberId 다음부터 조회
+     *
+     * @param afterMemberId : 이전 페이지의 마지막 memberId (첫 페이지면 null)
+     * @param size : 1 ~ MAX_CURSOR_PAGE_SIZE
+     * @return Slice 구조 (hasNext만 포함)
+     */
+    @Transactional(readOnly = true)
+    public Slice<MemberResDto> findMembersAfter(Long afterMemberId, int size) {
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE), Sort.by("memberId"));
+
+        if (afterMemberId == null) return memberRepository.findResDtoSlice(pageable);
+        return memberRepository.findResDtoSliceAfter(afterMemberId, pageable);
+    }
+
+
+    /**
+     * 전체 회원 수. 커서 조회에서 요청한 경우에만 사용
+     */
+    @Transactional(readOnly = true)
+    public long countMembers() {
+        return memberRepository.count();
     }
 
 
@@ -95,4 +243,31 @@ public class MemberService {
         if (optionalEmail.isPresent()) throw new BusinessLogicException(ExceptionCode.EMAIL_EXIST);
     }
 
+
+    /**
+     * 저장된 RefreshToken 삭제. 실패해도 수정 결과는 유지하고 로그만 남김
+     * 재발급(AuthService)은 DB를 조회하지 않으므로, 삭제에 실패하면 인증정보 캐시(memberDetails)가 새 값으로 다시 채워진 뒤에만 이전 토큰의 재발급이 거부됨 (error 로그)
+     */
+    private void endSessions(Long memberId) {
+        try {
+            refreshTokenStore.revoke(memberId);
+        } catch (RuntimeException e) {
+            log.error("Refresh token revoke failed for member {}: {}", memberId, e.getMessage());
+        }
+    }
+
+
+    /**
+     * 로그인용 회원 인증정보 캐시(memberDetails)에서 해당 회원 제거. 회원 정보 변경 커밋 후 호출 (다른 서버에도 전파)
+     */
+    private void evictMemberDetails(String email) {
+        memberDetailsCacheSync.evictAndPublish(email);
+    }
+
+
+    @AllArgsConstructor
+    private static class UpdateResult {
+        private final String email;
+        private final boolean authChanged;
+    }
 }
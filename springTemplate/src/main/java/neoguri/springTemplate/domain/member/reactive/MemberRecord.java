@@ -0,0 +1,117 @@
+package neoguri.springTemplate.domain.member.reactive;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import neoguri.springTemplate.domain.member.entity.Member;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+
+/**
+ * reactive 스택(R2DBC)용 회원 매핑 클래스. JPA Member 엔티티와 같은 테이블/컬럼을 사용 (스키마는 JPA가 생성)
+ * 컬럼명은 PhysicalNamingStrategyStandardImpl 기준(필드명 그대로)으로 맞춤. roles는 별도 테이블(Member_roles)이라 포함하지 않음
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Table("Member")
+public class MemberRecord {
+
+    @Id
+    @Column("memberId")
+    private Long memberId;
+
+    @Column("email")
+    private String email;
+
+    @Column("password")
+    private String password;
+
+    @Column("nickname")
+    private String nickname;
+
+    @Column("profile")
+    private String profile;
+
+    @Column("oauthId")
+    private String oauthId;
+
+    @Column("oauthAccessToken")
+    private String oauthAccessToken;
+
+    @Column("memberStatus")
+    private Member.MemberStatus memberStatus;
+
+    @Column("createdAt")
+    private LocalDateTime createdAt;
+
+    @Column("last_modified_at")
+    private LocalDateTime modifiedAt;
+
+    @Version  // JPA Member와 같은 낙관적 락 컬럼. 신규 저장시 0, 수정시 버전 확인 후 증가 (Spring Data R2DBC가 처리)
+    @Column("version")
+    private Long version;
+
+
+    /**
+     * 요청 DTO로 만든 Member로부터 신규 회원 생성 (MemberService.createMember와 같은 기본값 적용)
+     */
+    public static MemberRecord newMember(Member member) {
+        member.defaultProfile();
+        LocalDateTime now = LocalDateTime.now();
+
+        return MemberRecord.builder()
+                .email(member.getEmail())
+                .password(member.getPassword())
+                .nickname(member.getNickname())
+                .profile(member.getProfile())
+                .memberStatus(member.getMemberStatus())
+                .createdAt(now)
+                .modifiedAt(now)
+                .build();
+    }
+
+
+    /**
+     * MemberService.modifyMember와 같은 규칙으로 null이 아닌 값만 수정
+     */
+    public void modify(Member member) {
+        if (member.getNickname() != null) this.nickname = member.getNickname();
+        if (member.getProfile() != null) this.profile = member.getProfile();
+        if (member.getMemberStatus() != null) this.memberStatus = member.getMemberStatus();
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+    public void withdrawMember() {
+        this.memberStatus = Member.MemberStatus.MEMBER_QUIT;
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+
+    /**
+     * 응답 DTO(MemberResDto) 재사용을 위해 Member로 변환
+     */
+    public Member toMember() {
+        Member member = Member.builder()
+                .memberId(memberId)
+                .email(email)
+                .password(password)
+                .nickname(nickname)
+                .profile(profile)
+                .oauthId(oauthId)
+                .oauthAccessToken(oauthAccessToken)
+                .memberStatus(memberStatus)
+                .version(version)
+                .build();
+        member.setCreatedAt(createdAt);
+        member.setModifiedAt(modifiedAt);
+        return member;
+    }
+}
@@ -0,0 +1,82 @@
+package neoguri.springTemplate.domain.member.reactive;
+
+import lombok.RequiredArgsConstructor;
+import neoguri.springTemplate.domain.member.dto.MemberPatchReqDto;
+import neoguri.springTemplate.domain.member.dto.MemberPostReqDto;
+import neoguri.springTemplate.domain.member.dto.MemberResDto;
+import neoguri.springTemplate.dto.MultiResDto;
+import neoguri.springTemplate.dto.SingleResDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+
+/**
+ * MemberController의 reactive 버전. reactive 프로필에서만 등록되며, 같은 경로/요청/응답 형식을 사용 (스택 간 비교용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/member")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMemberController {
+
+    private final ReactiveMemberService memberService;
+
+    @PostMapping
+    public Mono<ResponseEntity<SingleResDto<Long>>> postMember (@RequestBody MemberPostReqDto memberPostReqDto) {
+        return memberService.createMember(memberPostReqDto.toEntity())
+                .map(savedMember -> new ResponseEntity<>(new SingleResDto<>(savedMember.getMemberId()), HttpStatus.CREATED));
+    }
+
+
+    @PatchMapping("/edit/{memberId}")
+    public Mono<ResponseEntity<SingleResDto<String>>> patchMember (@RequestBody MemberPatchReqDto memberPatchReqDto,
+                                                                   @RequestParam Long memberId) {
+        return memberService.modifyMember(memberPatchReqDto.toEntity(), memberId)
+                .thenReturn(new ResponseEntity<>(new SingleResDto<>("Success Modify"), HttpStatus.OK));
+    }
+
+
+    @DeleteMapping("/remove/{memberId}")
+    public Mono<ResponseEntity<SingleResDto<String>>> withdrawMember (@RequestParam Long memberId) {
+        return memberService.withdrawMember(memberId)
+                .thenReturn(new ResponseEntity<>(new SingleResDto<>("정상적으로 탈퇴되었습니다."), HttpStatus.OK));
+    }
+
+
+    @DeleteMapping("/delete/{memberId}")
+    public Mono<ResponseEntity<SingleResDto<String>>> deleteMember (@RequestParam Long memberId) {
+        return memberService.removeMember(memberId)
+                .thenReturn(new ResponseEntity<>(new SingleResDto<>("Success Delete"), HttpStatus.OK));
+    }
+
+
+    @GetMapping("/find/{memberId}")
+    public Mono<ResponseEntity<SingleResDto<MemberResDto>>> getMember (@RequestParam Long memberId) {
+        return memberService.findMember(memberId)
+                .map(member -> new ResponseEntity<>(new SingleResDto<>(new MemberResDto(member.toMember())), HttpStatus.OK));
+    }
+
+
+    /**
+     * WebFlux에는 Pageable 인자 변환이 자동 설정되지 않으므로 page(1부터), size를 직접 받음
+     */
+    @GetMapping("/find-all")
+    public Mono<ResponseEntity<MultiResDto<MemberResDto>>> getMembers (@RequestParam(defaultValue = "1") int page,
+                                                                       @RequestParam(defaultValue = "20") int size) {
+        return memberService.findMembers(PageRequest.of(Math.max(page - 1, 0), size))
+                .map(result -> {
+                    List<MemberResDto> list = result.stream()
+                            .map(member -> new MemberResDto(member.toMember()))
+                            .collect(Collectors.toList());
+                    return new ResponseEntity<>(new MultiResDto<>(list, result), HttpStatus.OK);
+                });
+    }
+
+}
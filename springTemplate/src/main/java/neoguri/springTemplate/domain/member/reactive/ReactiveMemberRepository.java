@@ -0,0 +1,30 @@
+package neoguri.springTemplate.domain.member.reactive;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveMemberRepository extends R2dbcRepository<MemberRecord, Long> {
+
+    Mono<Boolean> existsByEmail(String email);
+
+    Flux<MemberRecord> findAllBy(Pageable pageable);
+
+    /**
+     * 가입시 역할 추가. JPA에서는 @ElementCollection이 자동으로 처리하는 부분
+     */
+    @Modifying
+    @Query("INSERT INTO Member_roles (Member_memberId, roles) VALUES (:memberId, :role)")
+    Mono<Integer> insertRole(Long memberId, String role);
+
+    /**
+     * 회원 삭제 전 역할 테이블(Member_roles) 정리. JPA에서는 @ElementCollection이 자동으로 처리하는 부분
+     */
+    @Modifying
+    @Query("DELETE FROM Member_roles WHERE Member_memberId = :memberId")
+    Mono<Integer> deleteRolesByMemberId(Long memberId);
+
+}
@@ -0,0 +1,159 @@
+package neoguri.springTemplate.domain.member.reactive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import neoguri.springTemplate.domain.member.cache.MemberCacheSync;
+import neoguri.springTemplate.domain.member.cache.MemberEmailFilter;
+import neoguri.springTemplate.domain.member.entity.Member;
+import neoguri.springTemplate.domain.member.mvc.MemberConstraints;
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import neoguri.springTemplate.security.userDetail.MemberDetailsCacheSync;
+import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+
+/**
+ * MemberService의 reactive 버전 (R2DBC). 비즈니스 규칙은 MemberService와 동일
+ * 트랜잭션은 TransactionalOperator(R2dbcTransactionManager)로 적용 (@Transactional은 JPA 트랜잭션 매니저를 사용하므로)
+ * R2DBC 변경은 Hibernate 2차 캐시가 알 수 없으므로 변경 후 MemberCacheSync로 직접 무효화 (로그인은 JPA로 조회)
+ * 탈퇴/삭제, 상태 변경시 저장된 RefreshToken도 삭제 (MemberService와 동일)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMemberService {
+
+    private final ReactiveMemberRepository memberRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final MemberDetailsCacheSync memberDetailsCacheSync;
+    private final MemberCacheSync memberCacheSync;
+    private final MemberEmailFilter memberEmailFilter;
+    private final RefreshTokenStore refreshTokenStore;
+    private final CustomAuthorityUtils customAuthorityUtils;
+
+    /**
+     * MemberService.createMember와 같이 중복은 DB 유니크 인덱스로 판단하고, 가입된 적 있을 수 있는 이메일만 미리 조회
+     * 역할(Member_roles)은 같은 트랜잭션에서 CustomAuthorityUtils.createRoles 기준으로 추가
+     */
+    public Mono<MemberRecord> createMember(Member member) {
+        Mono<Void> preCheck = memberEmailFilter.mightExist(member.getEmail()) ? verifyNotExistEmail(member.getEmail()) : Mono.empty();
+
+        return preCheck
+                .then(Mono.defer(() -> memberRepository.save(MemberRecord.newMember(member))))
+                .flatMap(savedMember -> Flux.fromIterable(customAuthorityUtils.createRoles(savedMember.getEmail()))
+                        .concatMap(role -> memberRepository.insertRole(savedMember.getMemberId(), role))
+                        .then(Mono.just(savedMember)))
+                .onErrorMap(DataIntegrityViolationException.class, MemberConstraints::translate)
+                .as(transactionalOperator::transactional)
+                .doOnNext(savedMember -> memberEmailFilter.put(savedMember.getEmail()))
+                .flatMap(savedMember -> evictMemberCache(savedMember).thenReturn(savedMember));  // 이메일 조회 쿼리 캐시 제거
+    }
+
+
+    /**
+     * MemberService.modifyMember와 같이 null이 아닌 값만 수정. 상태를 변경한 경우 RefreshToken 삭제
+     */
+    public Mono<Void> modifyMember(Member member, Long memberId) {
+        Mono<Void> endSessions = member.getMemberStatus() != null ? Mono.defer(() -> endSessions(memberId)) : Mono.empty();
+
+        return findMember(memberId)
+                .flatMap(existMember -> {
+                    existMember.modify(member);
+                    return memberRepository.save(existMember);
+                })
+                .onErrorMap(DataIntegrityViolationException.class, MemberConstraints::translate)  // 닉네임 중복
+                .as(transactionalOperator::transactional)
+                .flatMap(this::evictMemberCache)
+                .then(endSessions);
+    }
+
+
+    /**
+     * Member 완전 삭제시 사용
+     */
+    public Mono<Void> removeMember(Long memberId) {
+        return findMember(memberId)
+                .flatMap(verifyMember -> memberRepository.deleteRolesByMemberId(memberId)
+                        .then(memberRepository.delete(verifyMember))
+                        .thenReturn(verifyMember))
+                .as(transactionalOperator::transactional)
+                .flatMap(this::evictMemberCache)
+                .then(Mono.defer(() -> endSessions(memberId)));
+    }
+
+
+    /**
+     * 회원탈퇴 (상태만 MEMBER_QUIT으로 변경)
+     */
+    public Mono<Void> withdrawMember(Long memberId) {
+        return findMember(memberId)
+                .flatMap(verifyMember -> {
+                    verifyMember.withdrawMember();
+                    return memberRepository.save(verifyMember);
+                })
+                .as(transactionalOperator::transactional)
+                .flatMap(this::evictMemberCache)
+                .then(Mono.defer(() -> endSessions(memberId)));
+    }
+
+
+    public Mono<MemberRecord> findMember(Long memberId) {
+        return memberRepository.findById(memberId)
+                .switchIfEmpty(Mono.error(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND)));
+    }
+
+
+    /**
+     * 전체 회원 조회용. 목록과 전체 개수를 함께 조회해 Page로 반환 (MultiResDto 재사용)
+     */
+    public Mono<Page<MemberRecord>> findMembers(Pageable pageable) {
+        return memberRepository.findAllBy(pageable).collectList()
+                .zipWith(memberRepository.count())
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+
+    /**
+     * 이메일 중복 확인 메소드. 이메일 존재시 예외 발생
+     */
+    public Mono<Void> verifyNotExistEmail(String email) {
+        return memberRepository.existsByEmail(email)
+                .flatMap(exists -> exists ? Mono.error(new BusinessLogicException(ExceptionCode.EMAIL_EXIST)) : Mono.empty());
+    }
+
+
+    /**
+     * 저장된 RefreshToken 삭제. 실패해도 수정 결과는 유지하고 로그만 남김 (MemberService와 동일)
+     */
+    private Mono<Void> endSessions(Long memberId) {
+        return refreshTokenStore.revokeReactive(memberId)
+                .onErrorResume(e -> {
+                    log.error("Refresh token revoke failed for member {}: {}", memberId, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+
+    /**
+     * 로그인용 회원 인증정보 캐시와 2차 캐시 제거. Redis 발행이 블로킹 호출이라 이벤트 루프 밖(boundedElastic)에서 실행
+     */
+    private Mono<Void> evictMemberCache(MemberRecord member) {
+        return Mono.<Void>fromRunnable(() -> {
+                    memberDetailsCacheSync.evictAndPublish(member.getEmail());
+                    memberCacheSync.evictAndPublish(member.getMemberId());
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
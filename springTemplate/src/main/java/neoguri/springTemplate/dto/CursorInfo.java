@@ -0,0 +1,18 @@
+package neoguri.springTemplate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 조회시 PageInfo 대신 응답으로 내보내는 정보
+ * nextCursor : 다음 조회 요청에 그대로 넘기는 값 (마지막 페이지면 null)
+ * totalElements : 요청시에만 COUNT 조회 (요청하지 않으면 null)
+ */
+@AllArgsConstructor @Getter @Builder
+public class CursorInfo {
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long totalElements;
+}
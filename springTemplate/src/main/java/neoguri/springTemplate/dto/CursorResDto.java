@@ -0,0 +1,21 @@
+package neoguri.springTemplate.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 목록 응답. MultiResDto와 달리 전체 개수/페이지 수를 계산하지 않음
+ * List<T> data : 조회된 목록
+ * CursorInfo : 다음 조회용 커서 정보
+ */
+@Getter
+public class CursorResDto<T> {
+    private List<T> data;
+    private CursorInfo cursorInfo;
+
+    public CursorResDto(List<T> data, boolean hasNext, String nextCursor, Long totalElements) {
+        this.data = data;
+        this.cursorInfo = new CursorInfo(data.size(), hasNext, nextCursor, totalElements);
+    }
+}
@@ -7,12 +7,20 @@ public enum ExceptionCode {
      * 필요한 에러를 형식에 맞게 입력해주세요
      */
     MEMBER_NOT_FOUND(400, "존재하지 않는 계정입니다."),
+    INVALID_LOGIN_REQUEST(400, "잘못된 로그인 요청입니다."),
+    INVALID_CURSOR(400, "잘못된 페이지 커서입니다."),
+    BATCH_SIZE_EXCEEDED(400, "한 번에 조회할 수 있는 개수를 초과했습니다."),
     NON_ACCESS_MODIFY(401, "수정권한이 없습니다."),
     EMAIL_EXIST(401, "중복된 이메일 입니다."),
     NICKNAME_EXIST(401, "중복된 닉네임 입니다."),
     NOT_EXACT_PASSWORD(401,"비밀번호가 일치하지 않습니다."),
     LOGIN_REQUIRED(401, "로그인이 필요한 서비스 입니다."),
+    INVALID_REFRESH_TOKEN(401, "유효하지 않은 리프레시 토큰입니다. 다시 로그인 해주세요."),
     NOT_FOUND(404,"정보를 찾을 수 없습니다."),
+    MEMBER_UPDATE_CONFLICT(409, "다른 요청에서 회원 정보를 수정중입니다. 다시 시도해주세요."),
+    LOGIN_OVERLOADED(503, "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    REFRESH_TOKEN_STORE_UNAVAILABLE(503, "로그인 정보를 저장하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    EXPORT_OVERLOADED(503, "내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요."),
     ;
 
 
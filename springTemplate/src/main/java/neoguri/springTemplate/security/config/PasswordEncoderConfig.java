@@ -0,0 +1,49 @@
+package neoguri.springTemplate.security.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import neoguri.springTemplate.security.password.BcryptStrengthCalibrator;
+import neoguri.springTemplate.security.password.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * 비밀번호 인코더 설정. 서블릿/reactive 스택 모두에서 사용하므로 SecurityConfiguration에서 분리
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * password를 인코딩하기 위해 bean 등록
+     * - 새로 저장하는 비밀번호는 기동시 측정한 strength의 bcrypt로 해싱 (strength를 직접 지정하면 측정 생략). 어느 쪽이든 min/max-strength 범위로 제한
+     * - "{bcrypt}" 외의 id로 저장된 기존 비밀번호는 passwordEncoderFactory의 기본 인코더로 검증
+     * - 저장된 해시의 알고리즘/strength가 현재 설정과 다르면 로그인 성공시 재해싱 (MemberDetailsService.updatePassword)
+     * - 로그인 검증(matches)은 BoundedPasswordEncoder의 전용 스레드풀에서 실행
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${password-hash.strength}") int strength,
+                                           @Value("${password-hash.target-millis}") long targetMillis,
+                                           @Value("${password-hash.min-strength}") int minStrength,
+                                           @Value("${password-hash.max-strength}") int maxStrength,
+                                           @Value("${password-hash.threads}") int threads,
+                                           @Value("${password-hash.queue-capacity}") int queueCapacity,
+                                           @Value("${password-hash.wait-timeout-millis}") long waitTimeoutMillis) {
+        int bcryptStrength = strength > 0
+                ? BcryptStrengthCalibrator.clamp(strength, minStrength, maxStrength)
+                : BcryptStrengthCalibrator.calibrate(targetMillis, minStrength, maxStrength);
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder =
+                new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+
+        int hashThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, hashThreads, queueCapacity, waitTimeoutMillis, meterRegistry);
+    }
+}
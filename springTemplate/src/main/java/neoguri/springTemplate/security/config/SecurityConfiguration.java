@@ -1,29 +1,35 @@
 package neoguri.springTemplate.security.config;
 
 import lombok.RequiredArgsConstructor;
+import neoguri.springTemplate.security.filter.JwtVerificationFilter;
 import neoguri.springTemplate.security.handler.CustomAccessDeniedHandler;
 import neoguri.springTemplate.security.handler.CustomAuthenticationEntryPoint;
 import neoguri.springTemplate.security.jwt.JwtTokenizer;
-import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+/**
+ * 서블릿(Spring MVC) 스택 Security 설정. reactive 프로필(WebFlux)에서는 ReactiveSecurityConfiguration을 사용
+ * PasswordEncoder는 두 스택이 공유하므로 PasswordEncoderConfig에 등록
+ */
 @RequiredArgsConstructor
 @EnableWebSecurity
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfiguration {
 
     private final JwtTokenizer jwtTokenizer;
-    private final CustomAuthorityUtils customAuthorityUtils;
-    private final RedisTemplate redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final JwtVerificationFilter jwtVerificationFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
@@ -42,23 +48,30 @@ public class SecurityConfiguration {
                 .accessDeniedHandler(new CustomAccessDeniedHandler())
                 .authenticationEntryPoint(new CustomAuthenticationEntryPoint())
                 .and()
-                .apply(new CustomFilterConfig(jwtTokenizer, customAuthorityUtils, redisTemplate))
+                .apply(new CustomFilterConfig(jwtTokenizer, refreshTokenStore, jwtVerificationFilter))
                 .and()
                 .authorizeHttpRequests(authorize -> authorize
+                        .antMatchers(HttpMethod.POST, "/member/import").hasRole("ADMIN")  // 회원 일괄 등록 (비밀번호 해시를 그대로 저장)
+                        .antMatchers(HttpMethod.GET, "/member/export").hasRole("ADMIN")  // 전체 회원 내보내기
                         .anyRequest().permitAll()
                 ).build();
     }
 
     /**
-     * 등록한 필터를 로그로 확인하기 위한 코드
+     * JwtVerificationFilter는 @Component라서 Spring Boot가 서블릿 필터로도 자동 등록함
+     * Security 필터 체인(CustomFilterConfig)에서만 실행되도록 서블릿 필터 등록을 해제 (등록되어 있으면 요청마다 검증이 두 번 실행됨)
      */
     @Bean
-    public WebSecurityCustomizer webSecurityCustomizer() { return  web -> web.debug(true); }
+    public FilterRegistrationBean<JwtVerificationFilter> jwtVerificationFilterRegistration() {
+        FilterRegistrationBean<JwtVerificationFilter> registration = new FilterRegistrationBean<>(jwtVerificationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
 
     /**
-     * password를 인코딩하기 위해 bean 등록. passwordEncoderFactory를 통해 생성하는 방식
+     * 등록한 필터를 로그로 확인하기 위한 코드
      */
     @Bean
-    public PasswordEncoder passwordEncoder() { return PasswordEncoderFactories.createDelegatingPasswordEncoder(); }
+    public WebSecurityCustomizer webSecurityCustomizer() { return  web -> web.debug(true); }
 
 }
@@ -1,16 +1,18 @@
 package neoguri.springTemplate.security.filter;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.Getter;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import neoguri.springTemplate.domain.member.entity.Member;
+import neoguri.springTemplate.exception.exceptionCode.AuthException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
 import neoguri.springTemplate.security.dto.LoginDto;
 import neoguri.springTemplate.security.jwt.JwtTokenizer;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -21,18 +23,31 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import javax.servlet.FilterChain;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
-    @Getter
-    @Value("${jwt.refresh-token-prefix}")
-    private String refreshPrefix;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenizer jwtTokenizer;
-    private final RedisTemplate redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+
+
+    /**
+     * 로그인 요청 body의 최대 크기 (이메일 + 패스워드만 담기므로 넉넉하게 4KB)
+     */
+    private static final int MAX_LOGIN_BODY_BYTES = 4 * 1024;
+
+    /**
+     * LoginDto 전용 ObjectReader. 스레드 안전하므로 하나를 공유해서 사용
+     * 요청마다 ObjectMapper를 생성하면 매번 Jackson의 타입/직렬화 정보 캐시를 새로 만들게 됨
+     */
+    private static final ObjectReader LOGIN_DTO_READER = new ObjectMapper()
+            .readerFor(LoginDto.class)
+            .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
 
 
     /**
@@ -45,15 +60,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     @SneakyThrows
     public Authentication attemptAuthentication (HttpServletRequest request, HttpServletResponse response) {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        LoginDto loginDto;
-
-        try {
-            loginDto = objectMapper.readValue(request.getInputStream(), LoginDto.class);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        LoginDto loginDto = readLoginDto(request);
 
         UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken;
         // 게스트 로그인을 위한 부분
@@ -78,26 +85,44 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         Member authenticatedMember = (Member) authResult.getPrincipal();
         String accessToken = jwtTokenizer.delegateAccessToken(authenticatedMember);
         String refreshToken = jwtTokenizer.delegateRefreshToken(authenticatedMember);
-        response.setHeader("Authorization", "Bearer " + accessToken);
 
-        ResponseCookie cookie = ResponseCookie.from("refreshToken",refreshToken)
-//                .maxAge(7*24*60*60)
-                .path("/")
-                .secure(true)
-                .sameSite("None")
-                .httpOnly(true)
-                .build();
-        response.setHeader("Set_Cookie", cookie.toString());
+        // 로그인시, Redis 캐시 서버에 Refresh 토큰을 저장하는 로직 ( key:value 형식의 set방식으로 저장되며, key는 RTkey+회원 식별자, value는 refreshToken의 다이제스트로 저장)
+        // SYNC 모드에서 저장에 실패하면 토큰을 내려주지 않고 로그인 실패로 응답 (CustomAuthenticationFailureHandler, 503)
+        try {
+            refreshTokenStore.save(authenticatedMember.getMemberId(), refreshToken);
+        } catch (AuthException e) {
+            unsuccessfulAuthentication(request, response, e);
+            return;
+        }
 
-        // 로그인시, Redis 캐시 서버에 Refresh 토큰을 저장하는 로직 ( key:value 형식의 set방식으로 저장되며, key는 RTkey+회원 식별자, value는 refreshToken으로 저장)
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        valueOperations.set(getRefreshPrefix()+authenticatedMember.getMemberId(), refreshToken);
-//        log.info("redis RT : {}", valueOperations.get(getRefreshPrefix()+authenticatedMember.getMemberId()));
+        response.setHeader("Authorization", "Bearer " + accessToken);
+        ResponseCookie cookie = jwtTokenizer.createRefreshTokenCookie(refreshToken);
+        response.setHeader(HttpHeaders.SET_COOKIE, cookie.toString());
 
         this.getSuccessHandler().onAuthenticationSuccess(request, response, authResult);
     }
 
 
+    /**
+     * 요청 body를 스트림으로 읽어 LoginDto로 변환. 크기 초과, 잘못된 JSON, 이메일/패스워드 누락시 바로 실패 (400)
+     */
+    private LoginDto readLoginDto(HttpServletRequest request) {
+        if (request.getContentLengthLong() > MAX_LOGIN_BODY_BYTES)
+            throw new AuthException(ExceptionCode.INVALID_LOGIN_REQUEST, "Login body too large");
+
+        LoginDto loginDto;
+        try (InputStream body = new LimitedInputStream(request.getInputStream(), MAX_LOGIN_BODY_BYTES)) {
+            loginDto = LOGIN_DTO_READER.readValue(body);
+        } catch (IOException e) {
+            throw new AuthException(ExceptionCode.INVALID_LOGIN_REQUEST, "Malformed login body: " + e.getMessage());
+        }
+
+        if (loginDto == null || loginDto.getEmail() == null || loginDto.getPassword() == null)
+            throw new AuthException(ExceptionCode.INVALID_LOGIN_REQUEST, "Email and password are required");
+        return loginDto;
+    }
+
+
     @SneakyThrows
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response,
                                               AuthenticationException failed) {
@@ -105,4 +130,37 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         super.unsuccessfulAuthentication(request, response, failed);
     }
 
-}
\ No newline at end of file
+
+    /**
+     * Content-Length가 없는(chunked) 요청도 최대 크기까지만 읽도록 제한하는 InputStream
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) consume(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) consume(n);
+            return n;
+        }
+
+        private void consume(int n) throws IOException {
+            remaining -= n;
+            if (remaining < 0) throw new IOException("Login body exceeds " + MAX_LOGIN_BODY_BYTES + " bytes");
+        }
+    }
+
+}
@@ -1,13 +1,19 @@
 package neoguri.springTemplate.security.filter;
 
 
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import neoguri.springTemplate.domain.member.entity.Member;
+import neoguri.springTemplate.exception.exceptionCode.AuthException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import neoguri.springTemplate.security.jwt.BearerToken;
 import neoguri.springTemplate.security.jwt.JwtTokenizer;
+import neoguri.springTemplate.security.jwt.TokenClaims;
+import neoguri.springTemplate.security.jwt.VerifiedClaimsHolder;
+import neoguri.springTemplate.security.redis.LogoutDenylist;
 import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -19,33 +25,33 @@ import javax.servlet.FilterChain;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.List;
-import java.util.Map;
 
-@Component  // 일부 메소드 사용을 위한 DI를 위해 Bean 등록
+@Component  // 일부 메소드 사용을 위한 DI를 위해 Bean 등록 (서블릿 필터 자동등록은 SecurityConfiguration에서 해제, Security 필터 체인에만 등록)
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)  // reactive 스택은 JwtVerificationWebFilter 사용
 public class JwtVerificationFilter extends OncePerRequestFilter {
 
     private final JwtTokenizer jwtTokenizer;
     private final CustomAuthorityUtils customAuthorityUtils;
+    private final LogoutDenylist logoutDenylist;
 
 
+    /**
+     * 토큰 검증 -> 로그아웃 여부 확인 -> SecurityContext 설정 -> 다음 필터 호출을 한 번씩만 수행
+     * 검증에 실패하거나 로그아웃된 토큰이면 인증 없이 요청을 진행하고, 실패 원인은 "Exception" attribute로 넘김 (인가가 필요한 경우 EntryPoint에서 처리)
+     * 로그아웃 확인(LogoutDenylist) 중 Redis 장애가 나도 인증하지 않음 (reactive 스택의 JwtVerificationWebFilter와 동일)
+     */
     @Override
     @SneakyThrows
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) {
         try {
-            Map<String, Object> claims = verifyJwt(request); // 토큰 검증
-            setSecurityContext(claims);
-
-            // JwtExctractUtil을 사용하지 않을 경우, 인가 권한 검증을 위한 로직이 들어가야 할 부분.(with Redis)
-
-            filterChain.doFilter(request, response);
+            Claims claims = verifyJwt(request); // 토큰 검증
+            if (logoutDenylist.isLoggedOut(BearerToken.resolve(request)))
+                throw new AuthException(ExceptionCode.LOGIN_REQUIRED, "Logged out access token");
 
-        } catch (ExpiredJwtException ee) {
-            request.setAttribute("Exception", ee);
-        } catch (SignatureException se) {
-            request.setAttribute("Exception", se);
-        } catch (RuntimeException re) {
+            setSecurityContext(claims);
+        } catch (RuntimeException re) {  // ExpiredJwtException, SignatureException 등
             request.setAttribute("Exception", re);
         }
 
@@ -53,25 +59,26 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     }
 
 
+    /**
+     * Bearer 토큰이 없는 요청(비로그인, 로그인 요청 등)은 필터를 건너뜀
+     */
     @Override
-    @SneakyThrows
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String authorization = request.getHeader("Authorization");
-
-        return authorization == null || authorization.startsWith("Bearer");
+        return !BearerToken.exists(request);
     }
 
 
     /**
-     * JWT 파싱단계
+     * JWT 파싱단계. 검증된 Claims는 요청에 저장해두어 같은 요청 안에서는 다시 검증하지 않도록 함 (JwtParcingUtil에서 재사용)
      * @param request
      * @return
      */
-    private Map<String, Object> verifyJwt(HttpServletRequest request) {
-        String jws = request.getHeader("Authorization").replace("Bearer ", ""); // JWT의 헤더를 떼냄
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());  // 파싱을 위한 secretKey생성
+    private Claims verifyJwt(HttpServletRequest request) {
+        String jws = BearerToken.resolve(request); // JWT의 헤더를 떼냄
 
-        return jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();  // Claims의 바디 부분을 파싱해서 받아옴. Map<String, Object> claims 형태
+        Claims claims = jwtTokenizer.getVerifiedClaims(jws);  // 검증 캐시를 거쳐 Claims의 바디 부분을 받아옴. Map<String, Object> claims 형태
+        VerifiedClaimsHolder.set(request, jws, claims);
+        return claims;
     }
 
 
@@ -79,9 +86,10 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
      * 인증된 유저와 역할을 SecurituContextHolder에 넣어주는 메소드
      * @param claims
      */
-    private void setSecurityContext(Map<String, Object> claims) {
-        String username = claims.get("username").toString();
-        List<GrantedAuthority> authorityList = customAuthorityUtils.createAuthorities((List) claims.get("roles"));
+    private void setSecurityContext(Claims claims) {
+        TokenClaims tokenClaims = TokenClaims.from(claims);  // 토큰 형식(LEGACY/COMPACT)에 상관없이 email, ROLE 추출
+        String username = tokenClaims.getEmail();
+        List<GrantedAuthority> authorityList = customAuthorityUtils.createAuthorities(tokenClaims.getRoles());
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, authorityList);
         SecurityContextHolder.getContext().setAuthentication(authentication); // SecurityContextHolder에 인증정보(Context) 업데이트해줌
@@ -3,6 +3,7 @@ package neoguri.springTemplate.security.handler;
 import com.google.gson.Gson;
 import lombok.extern.slf4j.Slf4j;
 import neoguri.springTemplate.exception.dto.ErrorResponse;
+import neoguri.springTemplate.exception.exceptionCode.AuthException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
@@ -23,15 +24,23 @@ public class CustomAuthenticationFailureHandler implements AuthenticationFailure
                                          AuthenticationException exception) throws IOException {
 
         log.info("Authentication failed: {}", exception.getMessage());
-        sendErrorResponse(response);
+        sendErrorResponse(response, resolveStatus(exception));
 
     }
 
-    private void sendErrorResponse(HttpServletResponse response) throws IOException {
+    /**
+     * 비밀번호 해싱 대기열 초과(LOGIN_OVERLOADED) 등 AuthException은 ExceptionCode의 상태코드로 응답
+     */
+    private HttpStatus resolveStatus(AuthenticationException exception) {
+        if (exception instanceof AuthException) return HttpStatus.valueOf(((AuthException) exception).getExceptionCode().getStatus());
+        return HttpStatus.UNAUTHORIZED;
+    }
+
+    private void sendErrorResponse(HttpServletResponse response, HttpStatus status) throws IOException {
         Gson gson = new Gson();
-        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.UNAUTHORIZED);
+        ErrorResponse errorResponse = ErrorResponse.of(status);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setStatus(status.value());
         response.getWriter().write(gson.toJson(errorResponse, ErrorResponse.class));
     }
 }
@@ -0,0 +1,53 @@
+package neoguri.springTemplate.security.jwt;
+
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.http.HttpServletRequest;
+
+
+/**
+ * Authorization 헤더에서 Bearer 토큰을 꺼내는 유틸
+ * String.replace("Bearer ", "")는 헤더 전체를 검색하고 새 문자열을 만들기 때문에, 접두어만 비교(regionMatches)한 뒤 잘라낸다.
+ */
+public final class BearerToken {
+
+    private static final String PREFIX = "Bearer ";
+
+    private BearerToken() {}
+
+
+    /**
+     * Bearer 토큰이 있는지만 확인 (객체 생성 없음)
+     */
+    public static boolean exists(HttpServletRequest request) {
+        return exists(request.getHeader(HttpHeaders.AUTHORIZATION));
+    }
+
+
+    /**
+     * @return Bearer 접두어를 뗀 토큰. Bearer 토큰이 없으면 null
+     */
+    public static String resolve(HttpServletRequest request) {
+        return resolve(request.getHeader(HttpHeaders.AUTHORIZATION));
+    }
+
+
+    /**
+     * 헤더값 기준 확인 (WebFlux 등 서블릿 요청이 아닌 경우)
+     * @param authorization Authorization 헤더값
+     */
+    public static boolean exists(String authorization) {
+        return authorization != null && authorization.length() > PREFIX.length()
+                && authorization.regionMatches(true, 0, PREFIX, 0, PREFIX.length());
+    }
+
+
+    /**
+     * @param authorization Authorization 헤더값
+     * @return Bearer 접두어를 뗀 토큰. Bearer 토큰이 없으면 null
+     */
+    public static String resolve(String authorization) {
+        if (!exists(authorization)) return null;
+        return authorization.substring(PREFIX.length());
+    }
+}
@@ -0,0 +1,346 @@
+package neoguri.springTemplate.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * JWT 서명/검증 키를 관리하는 컴포넌트 (JwtKeyRing 스냅샷 보관 + 토큰 헤더의 kid로 검증키 선택)
+ *
+ * jwt.signing.algorithm
+ * - HMAC : jwt.key.secret 으로 서명 (기존 방식). 이 서버만 검증 가능
+ *   jwt.signing.kid가 비어 있으면 kid 없이 서명. kid를 secret으로부터 만들면 kid만으로 secret을 오프라인 대입해볼 수 있으므로 만들지 않음
+ * - RS256, ES256 : 개인키로 서명하고, 공개키를 /.well-known/jwks.json 으로 공개. 다른 서비스는 JWKS만으로 직접 검증 가능
+ *   키 파일(PEM, PKCS#8 개인키 + X.509 공개키)을 지정하지 않으면 기동시 임시 키쌍을 생성 (재시작/다중 인스턴스 환경에서는 반드시 키 파일 지정)
+ *
+ * 무중단 키 교체 (서명키 1개 + 검증키 N개)
+ * - 서명키를 바꿔도 이전 키는 검증키로 남겨두므로, 이미 발급된 토큰은 만료될 때까지 그대로 사용된다. (재로그인이 한 번에 몰리지 않음)
+ * - key-ring-path : 키 목록 파일. 주기적으로 수정시각을 확인해 바뀌었으면 재시작 없이 다시 읽음 (파일 형식은 loadKeyRingFile 참고)
+ *   모든 인스턴스가 같은 파일(공유 볼륨, ConfigMap 등)을 읽으므로, 파일을 바꾸면 reload-interval-millis 안에 전체 인스턴스에 반영된다.
+ *   교체 순서 : 새 키 추가 -> (모든 인스턴스 반영 후) active 변경 -> (RefreshToken 만료시간 후) 이전 키 삭제
+ * - 검증키가 제거되면(revokeKey, 만료, 파일에서 삭제) 검증 캐시를 비워 제거된 키로 서명된 토큰을 즉시 거부
+ *
+ * 토큰 검증(읽기)은 volatile 스냅샷 참조 + Map 조회뿐이라 락이 없고 O(1). 키 변경(쓰기)만 락으로 직렬화한다.
+ */
+@Slf4j
+@Component
+public class JwtKeyManager implements SigningKeyResolver {
+
+    public enum SigningAlgorithm { HMAC, RS256, ES256 }
+
+    private static final String ACTIVE_PROPERTY = "active";
+    private static final String HMAC_PREFIX = "hmac.";
+    private static final String PUBLIC_KEY_PREFIX = "public.";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final SigningAlgorithm algorithm;
+    private final String configuredKid;
+    private final String privateKeyPath;
+    private final String publicKeyPath;
+    private final String keyRingPath;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // 아래 필드는 writeLock 안에서만 변경
+    private KeyPair keyPair;
+    private final JwtKeyRing.VerificationKey secretKey;  // jwt.key.secret (HMAC 모드에서 키 파일의 active가 없을 때의 서명키)
+    private Key legacyKey;  // kid 없는 토큰 검증용 (jwt.key.secret)
+    private FileKeys fileKeys;
+    private FileTime keyRingFileModified;
+
+    private volatile JwtKeyRing keyRing;
+
+    public JwtKeyManager(VerifiedTokenCache verifiedTokenCache,
+                         @Value("${jwt.key.secret}") String secretKey,
+                         @Value("${jwt.signing.algorithm}") SigningAlgorithm algorithm,
+                         @Value("${jwt.signing.kid}") String configuredKid,
+                         @Value("${jwt.signing.private-key-path}") String privateKeyPath,
+                         @Value("${jwt.signing.public-key-path}") String publicKeyPath,
+                         @Value("${jwt.signing.key-ring-path}") String keyRingPath) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.algorithm = algorithm;
+        this.configuredKid = configuredKid;
+        this.privateKeyPath = privateKeyPath;
+        this.publicKeyPath = publicKeyPath;
+        this.keyRingPath = keyRingPath;
+        this.secretKey = createSecretKey(secretKey);
+        this.legacyKey = this.secretKey.getKey();
+    }
+
+
+    @PostConstruct
+    public void init() {
+        writeLock.lock();
+        try {
+            if (algorithm != SigningAlgorithm.HMAC) keyPair = loadKeyPair(SignatureAlgorithm.forName(algorithm.name()));
+            if (!isBlank(keyRingPath)) loadKeyRingFile(Path.of(keyRingPath));  // 기동시에는 파일 오류를 그대로 실패로 처리
+            publish();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+
+    /**
+     * 현재 키 묶음. 교체되더라도 반환받은 스냅샷은 변하지 않음
+     */
+    public JwtKeyRing getKeyRing() {
+        return keyRing;
+    }
+
+
+    /**
+     * 검증키 즉시 폐기 (키 유출 등). 해당 kid로 서명된 토큰은 바로 검증에 실패함
+     * 키 파일에 있는 키는 파일에서 삭제해야 다음 재로딩 이후에도 폐기 상태가 유지됨
+     * 현재 서명에 사용중인 키는 폐기할 수 없음 (먼저 키 파일의 active 변경)
+     * @param kid 폐기할 키의 kid
+     */
+    public void revokeKey(String kid) {
+        writeLock.lock();
+        try {
+            if (kid.equals(keyRing.getSigningKey().getKid()))
+                throw new IllegalArgumentException("Cannot revoke the active key: " + kid);
+            if (fileKeys != null) fileKeys = fileKeys.without(kid);
+            publish();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+
+    /**
+     * 키 파일이 바뀌었으면 다시 읽음. 바뀐 것이 있을 때만 키 묶음을 새로 만듦
+     * 키 파일 경로가 없으면 아무것도 하지 않음
+     * 재로딩 중 오류가 나면 기존 키 묶음을 그대로 유지
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval-millis}", initialDelayString = "${jwt.signing.reload-interval-millis}")
+    public void reload() {
+        writeLock.lock();
+        try {
+            if (isBlank(keyRingPath)) return;
+
+            Path path = Path.of(keyRingPath);
+            if (Files.getLastModifiedTime(path).equals(keyRingFileModified)) return;
+
+            loadKeyRingFile(path);
+            log.info("Reloaded JWT key ring file: {}", keyRingPath);
+            publish();
+        } catch (IOException | RuntimeException e) {
+            log.warn("JWT key ring reload failed, keeping the current keys: {}", e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        return resolve(header);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, String plaintext) {
+        return resolve(header);
+    }
+
+
+    /**
+     * 토큰 헤더의 kid로 검증키 선택. 헤더의 alg가 등록된 키의 알고리즘과 다르면 거부 (알고리즘 혼동 공격 방지)
+     */
+    private Key resolve(JwsHeader header) {
+        JwtKeyRing ring = keyRing;
+        String kid = header.getKeyId();
+
+        if (kid == null) {
+            if (ring.getDefaultVerificationKey() == null) throw new UnsupportedJwtException("Missing key id");
+            return ring.getDefaultVerificationKey();
+        }
+
+        JwtKeyRing.VerificationKey verificationKey = ring.find(kid);
+        if (verificationKey == null) throw new UnsupportedJwtException("Unknown key id: " + kid);
+        if (!verificationKey.getAlgorithm().getValue().equals(header.getAlgorithm()))
+            throw new UnsupportedJwtException("Algorithm mismatch for key id: " + kid);
+        return verificationKey.getKey();
+    }
+
+
+    /**
+     * 현재 상태로 새 스냅샷을 만들어 교체. 이전 스냅샷에 있던 검증키가 빠졌으면 검증 캐시를 비움 (writeLock 안에서 호출)
+     */
+    private void publish() {
+        List<JwtKeyRing.VerificationKey> verificationKeys = new ArrayList<>();
+        JwtKeyRing.VerificationKey signingKey;
+        Key signingPrivateKey;
+
+        if (algorithm == SigningAlgorithm.HMAC) {
+            JwtKeyRing.VerificationKey fileActiveKey = fileKeys == null ? null : fileKeys.activeHmacKey();
+            signingKey = fileActiveKey != null ? fileActiveKey : secretKey;
+            signingPrivateKey = signingKey.getKey();
+        } else {
+            String kid = isBlank(configuredKid) ? JwtKeyRing.thumbprint(keyPair.getPublic().getEncoded()) : configuredKid;
+            signingKey = new JwtKeyRing.VerificationKey(kid, SignatureAlgorithm.forName(algorithm.name()), keyPair.getPublic());
+            signingPrivateKey = keyPair.getPrivate();
+        }
+
+        verificationKeys.add(signingKey);
+        verificationKeys.add(secretKey);
+        if (fileKeys != null) verificationKeys.addAll(fileKeys.keys);
+
+        JwtKeyRing previous = keyRing;
+        JwtKeyRing next = new JwtKeyRing(signingKey, signingPrivateKey, verificationKeys, legacyKey);
+        keyRing = next;
+
+        if (previous != null && (!next.getVerificationKeys().keySet().containsAll(previous.getVerificationKeys().keySet())
+                || (previous.getDefaultVerificationKey() != null && next.getDefaultVerificationKey() == null)))
+            verifiedTokenCache.invalidateAll();  // 제거된 키로 검증된 결과는 더 이상 사용하지 않음
+    }
+
+
+    /**
+     * 키 목록 파일(properties) 로딩
+     * active=<kid>              HMAC 모드에서 서명에 사용할 kid (없으면 jwt.key.secret 사용)
+     * hmac.<kid>=<secret>       HMAC secret (서명/검증)
+     * public.<kid>=<PEM 경로>   이전 RSA/EC 공개키 (검증 전용)
+     */
+    private void loadKeyRingFile(Path path) {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            FileTime modified = Files.getLastModifiedTime(path);
+            Properties properties = new Properties();
+            properties.load(reader);
+
+            List<JwtKeyRing.VerificationKey> keys = new ArrayList<>();
+            for (String name : properties.stringPropertyNames()) {
+                String value = properties.getProperty(name).trim();
+                if (name.startsWith(HMAC_PREFIX)) {
+                    SecretKey key = Keys.hmacShaKeyFor(value.getBytes(StandardCharsets.UTF_8));
+                    keys.add(new JwtKeyRing.VerificationKey(name.substring(HMAC_PREFIX.length()), SignatureAlgorithm.forSigningKey(key), key));
+                } else if (name.startsWith(PUBLIC_KEY_PREFIX)) {
+                    PublicKey key = readPublicKey(value);
+                    SignatureAlgorithm keyAlgorithm = "EC".equals(key.getAlgorithm()) ? SignatureAlgorithm.ES256 : SignatureAlgorithm.RS256;
+                    keys.add(new JwtKeyRing.VerificationKey(name.substring(PUBLIC_KEY_PREFIX.length()), keyAlgorithm, key));
+                }
+            }
+
+            String activeKid = properties.getProperty(ACTIVE_PROPERTY);
+            FileKeys loaded = new FileKeys(activeKid == null ? null : activeKid.trim(), keys);
+            if (loaded.activeKid != null && loaded.activeHmacKey() == null)
+                throw new IllegalStateException("Active kid not found in key ring file: " + loaded.activeKid);
+
+            fileKeys = loaded;
+            keyRingFileModified = modified;
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to load JWT key ring file: " + path, e);
+        }
+    }
+
+
+    /**
+     * jwt.key.secret 키 생성. HMAC 모드에서 jwt.signing.kid가 있으면 그 kid를 쓰고, 없으면 kid 없이 서명/검증 (기본 검증키로 처리)
+     * RS256/ES256 모드에서 jwt.signing.kid는 공개키의 kid이므로 secret에는 kid를 두지 않음
+     */
+    private JwtKeyRing.VerificationKey createSecretKey(String secret) {
+        SecretKey hmacKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        String kid = algorithm == SigningAlgorithm.HMAC && !isBlank(configuredKid) ? configuredKid : null;
+        return new JwtKeyRing.VerificationKey(kid, SignatureAlgorithm.forSigningKey(hmacKey), hmacKey);
+    }
+
+
+    private KeyPair loadKeyPair(SignatureAlgorithm signatureAlgorithm) {
+        if (isBlank(privateKeyPath)) {
+            log.warn("No JWT signing key file configured. Generated an ephemeral {} key pair; tokens will not survive a restart.", signatureAlgorithm);
+            return Keys.keyPairFor(signatureAlgorithm);
+        }
+        if (isBlank(publicKeyPath)) throw new IllegalStateException("jwt.signing.public-key-path is required with private-key-path");
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(signatureAlgorithm == SignatureAlgorithm.ES256 ? "EC" : "RSA");
+            PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readPem(privateKeyPath)));
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(readPem(publicKeyPath)));
+            return new KeyPair(publicKey, privateKey);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to load JWT signing keys", e);
+        }
+    }
+
+
+    /**
+     * X.509 공개키 PEM 로딩. RSA로 읽히지 않으면 EC로 시도
+     */
+    private static PublicKey readPublicKey(String path) throws IOException, GeneralSecurityException {
+        X509EncodedKeySpec keySpec = new X509EncodedKeySpec(readPem(path));
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(keySpec);
+        } catch (GeneralSecurityException e) {
+            return KeyFactory.getInstance("EC").generatePublic(keySpec);
+        }
+    }
+
+
+    private static byte[] readPem(String path) throws IOException {
+        String pem = Files.readString(Path.of(path));
+        String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+
+    /**
+     * 키 목록 파일에서 읽은 키 (불변)
+     */
+    private static final class FileKeys {
+        private final String activeKid;
+        private final List<JwtKeyRing.VerificationKey> keys;
+
+        private FileKeys(String activeKid, List<JwtKeyRing.VerificationKey> keys) {
+            this.activeKid = activeKid;
+            this.keys = List.copyOf(keys);
+        }
+
+        private JwtKeyRing.VerificationKey activeHmacKey() {
+            if (activeKid == null) return null;
+            for (JwtKeyRing.VerificationKey key : keys) {
+                if (key.getKid().equals(activeKid) && !(key.getKey() instanceof PublicKey)) return key;
+            }
+            return null;
+        }
+
+        private FileKeys without(String kid) {
+            List<JwtKeyRing.VerificationKey> remaining = new ArrayList<>(keys);
+            remaining.removeIf(key -> key.getKid().equals(kid));
+            return new FileKeys(kid.equals(activeKid) ? null : activeKid, remaining);
+        }
+    }
+}
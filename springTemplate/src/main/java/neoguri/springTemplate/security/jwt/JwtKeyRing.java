@@ -0,0 +1,162 @@
+package neoguri.springTemplate.security.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * JWT 서명/검증 키 묶음의 불변 스냅샷
+ * - 서명키 1개 (새 토큰 발급용)
+ * - 검증키 목록 : kid -> 키. 토큰 헤더의 kid로 O(1) 조회
+ * - 기본 검증키 : kid가 없는 이전 방식(HMAC) 토큰 검증용
+ * - JWKS : 공개키(RSA/EC)만 JSON Web Key Set 형태로 미리 만들어 둠 (/.well-known/jwks.json)
+ * - JWKS ETag : 직렬화한 JWKS 본문의 해시. 같은 kid로 키가 바뀌어도 ETag가 바뀌고, 공개하지 않는 HMAC 키 변경에는 영향을 받지 않음
+ *
+ * 키가 바뀌면 스냅샷 전체를 새로 만들어 교체하므로, 읽는 쪽은 락 없이 항상 같은 세대의 키 묶음을 본다.
+ */
+@Getter
+public final class JwtKeyRing {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final ObjectMapper JWKS_WRITER = new ObjectMapper();
+
+    private final VerificationKey signingKey;
+    private final Key signingPrivateKey;
+    private final Map<String, VerificationKey> verificationKeys;
+    private final Key defaultVerificationKey;
+    private final Map<String, Object> jwks;
+    private final String jwksEtag;
+
+    /**
+     * @param signingKey 서명에 사용할 키의 kid/알고리즘/검증키
+     * @param signingPrivateKey 서명키 (HMAC은 검증키와 같은 SecretKey)
+     * @param verificationKeys 서명키를 포함한 전체 검증키 목록
+     * @param defaultVerificationKey kid 없는 토큰 검증용 키 (없으면 null)
+     */
+    JwtKeyRing(VerificationKey signingKey, Key signingPrivateKey, List<VerificationKey> verificationKeys, Key defaultVerificationKey) {
+        Map<String, VerificationKey> keysById = new LinkedHashMap<>();
+        verificationKeys.forEach(key -> {
+            if (key.getKid() != null) keysById.putIfAbsent(key.getKid(), key);  // kid 없는 키는 defaultVerificationKey로만 조회
+        });
+
+        this.signingKey = signingKey;
+        this.signingPrivateKey = signingPrivateKey;
+        this.verificationKeys = Map.copyOf(keysById);
+        this.defaultVerificationKey = defaultVerificationKey;
+        this.jwks = createJwks(keysById.values());
+        this.jwksEtag = "\"" + thumbprint(serialize(jwks)) + "\"";
+    }
+
+
+    /**
+     * kid로 검증키 조회. kid가 없거나 등록되지 않은 kid면 null
+     */
+    public VerificationKey find(String kid) {
+        return kid == null ? null : verificationKeys.get(kid);
+    }
+
+
+    /**
+     * 공개키로부터 kid 생성 (SHA-256 썸프린트 앞 16자)
+     */
+    static String thumbprint(byte[] source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source);
+            return BASE64_URL.encodeToString(digest).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    private static byte[] serialize(Map<String, Object> jwks) {
+        try {
+            return JWKS_WRITER.writeValueAsBytes(jwks);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    private static Map<String, Object> createJwks(Iterable<VerificationKey> keys) {
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        for (VerificationKey key : keys) {
+            if (key.getKey() instanceof PublicKey) jwkList.add(toJwk(key));  // HMAC 키는 절대 공개하지 않음
+        }
+        return Map.of("keys", List.copyOf(jwkList));
+    }
+
+
+    private static Map<String, Object> toJwk(VerificationKey verificationKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        Key key = verificationKey.getKey();
+
+        if (key instanceof RSAPublicKey) {
+            RSAPublicKey rsaKey = (RSAPublicKey) key;
+            jwk.put("kty", "RSA");
+            jwk.put("n", encodeUnsigned(rsaKey.getModulus(), 0));
+            jwk.put("e", encodeUnsigned(rsaKey.getPublicExponent(), 0));
+        } else if (key instanceof ECPublicKey) {
+            ECPublicKey ecKey = (ECPublicKey) key;
+            int fieldSize = (ecKey.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-" + ecKey.getParams().getCurve().getField().getFieldSize());
+            jwk.put("x", encodeUnsigned(ecKey.getW().getAffineX(), fieldSize));
+            jwk.put("y", encodeUnsigned(ecKey.getW().getAffineY(), fieldSize));
+        }
+
+        jwk.put("kid", verificationKey.getKid());
+        jwk.put("alg", verificationKey.getAlgorithm().getValue());
+        jwk.put("use", "sig");
+        return Collections.unmodifiableMap(jwk);  // JSON 필드 순서 유지
+    }
+
+
+    /**
+     * BigInteger를 부호 없는 big-endian 바이트로 변환 후 Base64url 인코딩. length가 0보다 크면 앞을 0으로 채움
+     */
+    private static String encodeUnsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return BASE64_URL.encodeToString(bytes);
+    }
+
+
+    /**
+     * kid, 알고리즘, 검증키 묶음. kid가 null이면 kid 헤더 없이 서명하는 키 (HMAC jwt.key.secret)
+     */
+    @Getter
+    public static final class VerificationKey {
+        private final String kid;
+        private final SignatureAlgorithm algorithm;
+        private final Key key;
+
+        VerificationKey(String kid, SignatureAlgorithm algorithm, Key key) {
+            this.kid = kid;
+            this.algorithm = algorithm;
+            this.key = key;
+        }
+    }
+}
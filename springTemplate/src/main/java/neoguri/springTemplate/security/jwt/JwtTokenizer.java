@@ -2,25 +2,51 @@ package neoguri.springTemplate.security.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.Encoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import neoguri.springTemplate.domain.member.entity.Member;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenizer {
 
+    public static final String TOKEN_TYPE_CLAIM = "type";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+    public static final String REFRESH_TOKEN_COOKIE = "refreshToken";
+    public static final String AUTH_TIME_CLAIM = "auth_time";  // 최초 로그인 시각(epoch 초). RefreshToken 재발급시에도 유지
+
+    /**
+     * AccessToken Claims 형식 (TokenClaims 참고). 검증은 두 형식 모두 가능하므로 배포 중에 섞여 있어도 된다.
+     * - LEGACY : username, role(목록), id를 그대로 담는 기존 형식
+     * - COMPACT : 짧은 클레임 이름 + ROLE 비트마스크 + id 중복 제거 (v = 2)
+     */
+    public enum TokenProfile { LEGACY, COMPACT }
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtKeyManager jwtKeyManager;
+
     /**
      * 시크릿 키를 발급받기 위해 시스템 변수로 설정해둔 값을 yml을 통해 받아오는 필드
      */
@@ -33,6 +59,27 @@ public class JwtTokenizer {
     @Getter @Value("${jwt.key.refresh-token-expiration-minutes}")
     private int refreshTokenExpirationMinutes;
 
+    /**
+     * 로그인 1회로 RefreshToken 재발급을 이어갈 수 있는 최대 시간. 재발급해도 최초 로그인 시각 기준으로 계산하므로 이 시간이 지나면 재로그인 필요
+     */
+    @Getter @Value("${jwt.key.refresh-session-max-minutes}")
+    private int refreshSessionMaxMinutes;
+
+    @Getter @Value("${jwt.token-profile}")
+    private TokenProfile tokenProfile;
+
+    /**
+     * 애플리케이션 시작시 1회 생성하는 파서. 요청마다 Base64 인코딩/디코딩 + Key 생성 + 파서 생성을 반복하지 않도록 함
+     * 검증키는 토큰 헤더의 kid로 JwtKeyManager에서 선택하므로, 키가 교체되어도 파서는 다시 만들 필요가 없다. (JwtParser는 불변 객체라 스레드간 공유 가능)
+     */
+    private JwtParser jwtParser;
+
+
+    @PostConstruct
+    public void init() {
+        jwtParser = Jwts.parserBuilder().setSigningKeyResolver(jwtKeyManager).build();
+    }
+
 
     /**
      * Base64를 이용해 SecretKey를 인코딩해주는 메서드
@@ -56,13 +103,19 @@ public class JwtTokenizer {
     public String createAccessToken(Map<String, Object> claims, String subject, Date expAt, String base64EncodedSecretKey) {
         Key key = getSecretKeyFromPlainSecretKey(base64EncodedSecretKey);
 
-        return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(subject)
-                .setIssuedAt(Calendar.getInstance().getTime())
-                .setExpiration(expAt)
-                .signWith(key)
-                .compact();
+        return buildToken(claims, subject, expAt, key);
+    }
+
+
+    /**
+     * 현재 서명키(JwtKeyManager)로 액세스 토큰을 생성하는 메소드
+     * @param claims : 사용자에 대한 프로퍼티나 속성정보
+     * @param subject : 토큰 제목
+     * @param expAt : 토큰 만료일자
+     * @return accessKey
+     */
+    public String createAccessToken(Map<String, Object> claims, String subject, Date expAt) {
+        return buildToken(claims, subject, expAt, jwtKeyManager.getKeyRing());
     }
 
 
@@ -76,12 +129,61 @@ public class JwtTokenizer {
     public String createRefreshToken(String subject, Date expAt, String base64EncodedSecretKey) {
         Key key = getSecretKeyFromPlainSecretKey(base64EncodedSecretKey);
 
-        return Jwts.builder()
+        return buildToken(null, subject, expAt, key);
+    }
+
+
+    /**
+     * 현재 서명키(JwtKeyManager)로 리프레쉬 토큰을 생성하는 메소드
+     * @param subject
+     * @param expAt
+     * @return refreshKey
+     */
+    public String createRefreshToken(String subject, Date expAt) {
+        return buildToken(null, subject, expAt, jwtKeyManager.getKeyRing());
+    }
+
+
+    /**
+     * 현재 서명키(JwtKeyManager)로 Claims를 포함한 리프레쉬 토큰을 생성하는 메소드
+     * @param claims : 재발급시 DB 조회 없이 액세스 토큰을 만들기 위한 사용자 정보
+     * @param subject
+     * @param expAt
+     * @return refreshKey
+     */
+    public String createRefreshToken(Map<String, Object> claims, String subject, Date expAt) {
+        Map<String, Object> refreshClaims = new HashMap<>(claims);  // 호출한 쪽의 Map은 변경하지 않음
+        refreshClaims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);  // 리프레쉬 토큰이 액세스 토큰으로 사용되지 않도록 구분
+
+        return buildToken(refreshClaims, subject, expAt, jwtKeyManager.getKeyRing());
+    }
+
+
+    private String buildToken(Map<String, Object> claims, String subject, Date expAt, Key key) {
+        return newBuilder(claims, subject, expAt).signWith(key).compact();
+    }
+
+
+    /**
+     * 키 묶음의 서명키로 서명하고, 검증하는 쪽에서 키를 고를 수 있도록 헤더에 kid를 담음 (kid 없는 서명키면 헤더 생략)
+     */
+    private String buildToken(Map<String, Object> claims, String subject, Date expAt, JwtKeyRing keyRing) {
+        JwtKeyRing.VerificationKey signingKey = keyRing.getSigningKey();
+
+        JwtBuilder builder = newBuilder(claims, subject, expAt);
+        if (signingKey.getKid() != null) builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid());
+        return builder.signWith(keyRing.getSigningPrivateKey(), signingKey.getAlgorithm()).compact();
+    }
+
+
+    private JwtBuilder newBuilder(Map<String, Object> claims, String subject, Date expAt) {
+        JwtBuilder builder = Jwts.builder();
+        if (claims != null) builder.setClaims(claims);
+
+        return builder
                 .setSubject(subject)
                 .setIssuedAt(Calendar.getInstance().getTime())
-                .setExpiration(expAt)
-                .signWith(key)
-                .compact();
+                .setExpiration(expAt);
     }
 
 
@@ -112,6 +214,45 @@ public class JwtTokenizer {
     }
 
 
+    /**
+     * 공유 파서로 Jws의 서명을 검증하고 Claims를 파싱하는 메소드 (요청마다 키/파서를 새로 만들지 않음, 검증키는 kid로 선택)
+     * @param jws
+     * @return
+     */
+    public Jws<Claims> getClaims (String jws) {
+        return jwtParser.parseClaimsJws(jws);
+    }
+
+
+    /**
+     * 검증된 토큰 캐시(VerifiedTokenCache)를 거쳐 AccessToken의 Claims를 얻는 메소드
+     * 이미 검증된 토큰이면 서명 검증/파싱 없이 캐시된 Claims를 반환하고, 처음 보는 토큰이면 검증 후 캐싱
+     * AccessToken이 아니면(isAccessToken) UnsupportedJwtException
+     * @param jws
+     * @return 검증된 Claims
+     */
+    public Claims getVerifiedClaims (String jws) {
+        return verifiedTokenCache.get(jws, token -> {
+            Claims claims = getClaims(token).getBody();
+            if (!isAccessToken(claims)) throw new UnsupportedJwtException("Not an access token");
+            return claims;
+        });
+    }
+
+
+    /**
+     * AccessToken 여부 확인. type 클레임이 access여야 함
+     * type이 없는 토큰은 type 클레임 도입 전에 발급된 AccessToken(회원정보 클레임이 있는 경우)만 허용하고,
+     * 회원정보 없이 subject만 담고 있던 이전 RefreshToken 등 나머지는 거부한다. (이전 AccessToken은 만료시간이 지나면 남아있지 않음)
+     */
+    static boolean isAccessToken(Claims claims) {
+        Object type = claims.get(TOKEN_TYPE_CLAIM);
+        if (type != null) return ACCESS_TOKEN_TYPE.equals(type);
+
+        return claims.get(TokenClaims.VERSION_CLAIM) != null || claims.get(TokenClaims.LEGACY_EMAIL_CLAIM) != null;
+    }
+
+
     /**
      * 반환값 없이 단순 검증 용도
      * @param jws
@@ -123,30 +264,110 @@ public class JwtTokenizer {
     }
 
 
+    /**
+     * 공유 파서를 이용한 단순 검증 용도
+     * @param jws
+     */
+    public void verifySignature(String jws) {
+        jwtParser.parseClaimsJws(jws);
+    }
+
+
     /**
      * 액세스 토큰 형성을 위한 값을 관리하는 메소드
      * @param member
      * @return accessToken (값 지정 후, 액세스 토큰 생성 메소드 호출하여 값을 대입)
      */
     public String delegateAccessToken (Member member) {
+        return delegateAccessToken(member.getMemberId(), member.getEmail(), member.getRoles());
+    }
+
+
+    /**
+     * 회원 정보만으로 액세스 토큰을 생성하는 메소드 (RefreshToken 재발급시 DB 조회 없이 사용)
+     * jwt.token-profile에 따라 Claims 형식이 달라짐. Claims를 읽을 때는 TokenClaims.from() 사용
+     * @param memberId
+     * @param email
+     * @param roles
+     * @return accessToken
+     */
+    public String delegateAccessToken (Long memberId, String email, List<String> roles) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("username", member.getEmail());
-        claims.put("role", member.getRoles());
-        claims.put("id", member.getMemberId());
-        String subject = String.valueOf(member.getMemberId()); // 토큰 제목
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+        if (tokenProfile == TokenProfile.COMPACT) TokenClaims.putCompactClaims(claims, email, roles);
+        else {
+            claims.put(TokenClaims.LEGACY_EMAIL_CLAIM, email);
+            claims.put(TokenClaims.LEGACY_ROLE_CLAIM, roles);
+            claims.put(TokenClaims.LEGACY_ID_CLAIM, memberId);
+        }
+        String subject = String.valueOf(memberId); // 토큰 제목
         Date expAt = getTokenExpiration(getAccessTokenExpirationMinutes());
-        String base64EncodedSecretKey = encodeBase64SecretKey(getSecretKey());
 
-        return createAccessToken(claims, subject, expAt, base64EncodedSecretKey);
+        return createAccessToken(claims, subject, expAt);
     }
 
 
     public String delegateRefreshToken (Member member) {
-        String subject = String.valueOf(member.getMemberId());
+        return delegateRefreshToken(member.getMemberId(), member.getEmail(), member.getRoles());
+    }
+
+
+    /**
+     * 리프레쉬 토큰 형성을 위한 값을 관리하는 메소드 (로그인시 사용, 최초 로그인 시각은 현재)
+     * @return refreshToken
+     */
+    public String delegateRefreshToken (Long memberId, String email, List<String> roles) {
+        return delegateRefreshToken(memberId, email, roles, new Date());
+    }
+
+
+    /**
+     * 리프레쉬 토큰 형성을 위한 값을 관리하는 메소드 (재발급시 사용)
+     * 만료일자는 getRefreshTokenExpiration(authTime) 기준이라, 재발급을 반복해도 세션이 최초 로그인 시각 + refresh-session-max-minutes를 넘지 않음
+     * @param authTime 최초 로그인 시각
+     * @return refreshToken
+     */
+    public String delegateRefreshToken (Long memberId, String email, List<String> roles, Date authTime) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TokenClaims.LEGACY_EMAIL_CLAIM, email);
+        claims.put(TokenClaims.LEGACY_ROLE_CLAIM, roles);
+        claims.put(AUTH_TIME_CLAIM, authTime.getTime() / 1000);
+        String subject = String.valueOf(memberId);
+        Date expAt = getRefreshTokenExpiration(authTime);
+
+        return createRefreshToken(claims, subject, expAt);
+    }
+
+
+    /**
+     * 지금 발급하는 리프레쉬 토큰의 만료일자. refresh-token-expiration-minutes 후와 세션 최대 시간(authTime + refresh-session-max-minutes) 중 빠른 쪽
+     * @param authTime 최초 로그인 시각
+     * @return expiration (현재 시각 이전이면 세션이 끝난 것)
+     */
+    public Date getRefreshTokenExpiration(Date authTime) {
         Date expAt = getTokenExpiration(getRefreshTokenExpirationMinutes());
-        String base64EncodedSecretKey = encodeBase64SecretKey(getSecretKey());
+        Date sessionEnd = new Date(authTime.getTime() + Duration.ofMinutes(getRefreshSessionMaxMinutes()).toMillis());
+        return expAt.before(sessionEnd) ? expAt : sessionEnd;
+    }
+
+
+    /**
+     * 리프레쉬 토큰 쿠키 생성 (로그인, 재발급시 사용)
+     * 쿠키 만료시간은 토큰의 exp까지 남은 시간 (세션 최대 시간에 걸린 토큰은 refresh-token-expiration-minutes보다 짧음)
+     * @param refreshToken 이 서버에서 발급한 RefreshToken
+     * @return Set-Cookie 헤더로 내보낼 쿠키
+     */
+    public ResponseCookie createRefreshTokenCookie (String refreshToken) {
+        Date expiration = getClaims(refreshToken).getBody().getExpiration();
+        long maxAgeMillis = expiration.getTime() - System.currentTimeMillis();
 
-        return createRefreshToken(subject, expAt, base64EncodedSecretKey);
+        return ResponseCookie.from(REFRESH_TOKEN_COOKIE, refreshToken)
+                .maxAge(Duration.ofMillis(Math.max(maxAgeMillis, 0)).toSeconds())
+                .path("/")
+                .secure(true)
+                .sameSite("None")
+                .httpOnly(true)
+                .build();
     }
 
 
@@ -160,4 +381,5 @@ public class JwtTokenizer {
         calendar.add(Calendar.MINUTE, expirationMinutes);
         return calendar.getTime();
     }
+
 }
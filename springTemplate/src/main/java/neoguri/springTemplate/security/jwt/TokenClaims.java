@@ -0,0 +1,145 @@
+package neoguri.springTemplate.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * AccessToken Claims의 형식(버전)에 상관없이 회원 식별자/이메일/ROLE을 꺼내기 위한 클래스
+ *
+ * 버전 (v 클레임)
+ * - 1 (v 없음, LEGACY) : sub = memberId, username = email, role = ["USER", ...], id = memberId
+ * - 2 (COMPACT)        : sub = memberId, em = email, rl = ROLE 비트마스크 (id 중복 제거)
+ *
+ * 비트마스크는 ROLE_ORDER의 순서대로 1 << index. 알 수 없는 ROLE이 있으면 rl에 ROLE 목록을 그대로 담는다.
+ */
+@Getter
+public final class TokenClaims {
+
+    public static final String VERSION_CLAIM = "v";
+    public static final int LEGACY_VERSION = 1;
+    public static final int COMPACT_VERSION = 2;
+
+    static final String LEGACY_EMAIL_CLAIM = "username";
+    static final String LEGACY_ROLE_CLAIM = "role";
+    static final String LEGACY_ID_CLAIM = "id";
+    static final String COMPACT_EMAIL_CLAIM = "em";
+    static final String COMPACT_ROLE_CLAIM = "rl";
+
+    /**
+     * 비트마스크 순서. CustomAuthorityUtils의 ADMIN_ROLES_STRING과 같은 순서로 복원되도록 ADMIN을 먼저 둔다.
+     * 순서를 바꾸면 이미 발급된 토큰의 ROLE이 바뀌므로, 새 ROLE은 맨 뒤에만 추가
+     */
+    private static final List<String> ROLE_ORDER = List.of("ADMIN", "USER");
+
+    /**
+     * 비트마스크 -> ROLE 목록(불변). 복원시마다 목록을 만들지 않도록 모든 조합을 미리 생성
+     */
+    private static final List<List<String>> ROLES_BY_MASK = createRolesByMask();
+
+    private final int version;
+    private final Long memberId;
+    private final String email;
+    private final List<String> roles;
+
+    private TokenClaims(int version, Long memberId, String email, List<String> roles) {
+        this.version = version;
+        this.memberId = memberId;
+        this.email = email;
+        this.roles = roles;
+    }
+
+
+    /**
+     * 검증된 Claims를 버전에 맞게 해석
+     * @param claims 검증된 AccessToken의 Claims
+     */
+    public static TokenClaims from(Claims claims) {
+        Number version = claims.get(VERSION_CLAIM, Number.class);
+
+        if (version == null) {
+            Object id = claims.getSubject() != null ? claims.getSubject() : claims.get(LEGACY_ID_CLAIM);
+            return new TokenClaims(LEGACY_VERSION, toLong(id), claims.get(LEGACY_EMAIL_CLAIM, String.class),
+                    toRoles(claims.get(LEGACY_ROLE_CLAIM)));
+        }
+
+        return new TokenClaims(version.intValue(), toLong(claims.getSubject()), claims.get(COMPACT_EMAIL_CLAIM, String.class),
+                decodeRoles(claims.get(COMPACT_ROLE_CLAIM)));
+    }
+
+
+    /**
+     * COMPACT 형식의 AccessToken Claims 생성 (subject는 JwtTokenizer에서 memberId로 설정)
+     */
+    static void putCompactClaims(Map<String, Object> claims, String email, List<String> roles) {
+        claims.put(VERSION_CLAIM, COMPACT_VERSION);
+        claims.put(COMPACT_EMAIL_CLAIM, email);
+        claims.put(COMPACT_ROLE_CLAIM, encodeRoles(roles));
+    }
+
+
+    /**
+     * ROLE 목록을 비트마스크로 변환. 알 수 없는 ROLE이 있으면 목록 그대로 반환
+     */
+    static Object encodeRoles(List<String> roles) {
+        if (roles == null) return 0;
+
+        int mask = 0;
+        for (String role : roles) {
+            int index = ROLE_ORDER.indexOf(role);
+            if (index < 0) return roles;
+            mask |= 1 << index;
+        }
+        return mask;
+    }
+
+
+    private static List<String> decodeRoles(Object value) {
+        if (value instanceof Number) {
+            int mask = ((Number) value).intValue();
+            if (mask >= 0 && mask < ROLES_BY_MASK.size()) return ROLES_BY_MASK.get(mask);
+            return Collections.emptyList();
+        }
+        return toRoles(value);
+    }
+
+
+    /**
+     * ROLE 목록 클레임을 문자열 목록(불변 복사본)으로 읽음. 목록이 아니거나 문자열이 아닌 값이 섞여 있으면 빈 목록
+     */
+    static List<String> toRoles(Object value) {
+        if (!(value instanceof List)) return Collections.emptyList();
+
+        List<String> roles = new ArrayList<>();
+        for (Object role : (List<?>) value) {
+            if (!(role instanceof String)) return Collections.emptyList();
+            roles.add((String) role);
+        }
+        return List.copyOf(roles);
+    }
+
+
+    private static Long toLong(Object value) {
+        if (value == null) return null;
+        if (value instanceof Number) return ((Number) value).longValue();
+        return Long.valueOf(String.valueOf(value));
+    }
+
+
+    private static List<List<String>> createRolesByMask() {
+        List<List<String>> rolesByMask = new ArrayList<>();
+        for (int mask = 0; mask < 1 << ROLE_ORDER.size(); mask++) {
+            List<String> roles = new ArrayList<>();
+            for (int index = 0; index < ROLE_ORDER.size(); index++) {
+                if ((mask & (1 << index)) != 0) roles.add(ROLE_ORDER.get(index));
+            }
+            rolesByMask.add(List.copyOf(roles));
+        }
+        return List.copyOf(rolesByMask);
+    }
+}
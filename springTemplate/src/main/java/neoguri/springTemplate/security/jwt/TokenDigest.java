@@ -0,0 +1,51 @@
+package neoguri.springTemplate.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+
+/**
+ * 토큰 원문 대신 사용할 고정 길이 다이제스트(SHA-256)를 만드는 유틸
+ * 캐시 키 등에 토큰 전체 문자열을 그대로 들고 있지 않도록 하기 위해 사용한다.
+ */
+public final class TokenDigest {
+
+    private static final MessageDigest SHA_256 = createSha256();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private TokenDigest() {}
+
+
+    /**
+     * @param token 원문 토큰
+     * @return SHA-256 다이제스트 (32byte)
+     */
+    public static byte[] digestBytes(String token) {
+        return newDigest().digest(token.getBytes(StandardCharsets.US_ASCII));  // JWT는 Base64url + '.' 로만 구성됨
+    }
+
+
+    /**
+     * @param token 원문 토큰
+     * @return Base64url(패딩 없음)로 인코딩한 SHA-256 다이제스트 (43자)
+     */
+    public static String digest(String token) {
+        return ENCODER.encodeToString(digestBytes(token));
+    }
+
+
+    /**
+     * MessageDigest는 스레드 안전하지 않기 때문에 매번 새 인스턴스를 사용. getInstance의 프로바이더 조회 비용을 피하기 위해 clone으로 생성
+     */
+    private static MessageDigest newDigest() {
+        try { return (MessageDigest) SHA_256.clone(); }
+        catch (CloneNotSupportedException e) { return createSha256(); }
+    }
+
+    private static MessageDigest createSha256() {
+        try { return MessageDigest.getInstance("SHA-256"); }
+        catch (NoSuchAlgorithmException e) { throw new IllegalStateException(e); }
+    }
+}
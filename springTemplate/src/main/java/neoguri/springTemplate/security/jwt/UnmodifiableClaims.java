@@ -0,0 +1,144 @@
+package neoguri.springTemplate.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * 수정할 수 없는 Claims 복사본
+ * VerifiedTokenCache의 Claims는 여러 요청 스레드가 함께 읽으므로, 한 요청에서 값을 바꾸면 다른 요청에 그대로 보이게 된다.
+ * 그래서 캐싱할 때 값(중첩된 List/Map 포함)을 복사하고, 이후 수정 시도(put, setSubject 등)는 UnsupportedOperationException으로 막는다.
+ * 읽기(getExpiration, get(name, type) 등의 형 변환)는 외부에 노출되지 않는 복사본 Claims에 위임
+ */
+final class UnmodifiableClaims extends AbstractMap<String, Object> implements Claims {
+
+    private final Claims delegate;
+
+    UnmodifiableClaims(Claims claims) {
+        this.delegate = Jwts.claims(freeze(claims));
+    }
+
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return Collections.unmodifiableSet(delegate.entrySet());  // AbstractMap의 put/remove/clear도 이 때문에 실패
+    }
+
+    @Override
+    public Object get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public <T> T get(String claimName, Class<T> requiredType) {
+        return delegate.get(claimName, requiredType);
+    }
+
+
+    @Override
+    public String getIssuer() {
+        return delegate.getIssuer();
+    }
+
+    @Override
+    public String getSubject() {
+        return delegate.getSubject();
+    }
+
+    @Override
+    public String getAudience() {
+        return delegate.getAudience();
+    }
+
+    @Override
+    public Date getExpiration() {
+        return delegate.getExpiration();
+    }
+
+    @Override
+    public Date getNotBefore() {
+        return delegate.getNotBefore();
+    }
+
+    @Override
+    public Date getIssuedAt() {
+        return delegate.getIssuedAt();
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+
+    @Override
+    public Claims setIssuer(String iss) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setSubject(String sub) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setAudience(String aud) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setExpiration(Date exp) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setNotBefore(Date nbf) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setIssuedAt(Date iat) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setId(String jti) {
+        throw readOnly();
+    }
+
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Cached claims are read-only");
+    }
+
+    private static Map<String, Object> freeze(Map<String, ?> map) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        map.forEach((key, value) -> copy.put(key, freezeValue(value)));
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object freezeValue(Object value) {
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object element : (List<Object>) value) copy.add(freezeValue(element));
+            return Collections.unmodifiableList(copy);
+        }
+        if (value instanceof Map) return Collections.unmodifiableMap(freeze((Map<String, ?>) value));
+        return value;  // String, Number, Boolean 등 JSON 스칼라 값은 불변
+    }
+}
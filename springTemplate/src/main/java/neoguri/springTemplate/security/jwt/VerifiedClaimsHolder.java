@@ -0,0 +1,42 @@
+package neoguri.springTemplate.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import javax.servlet.http.HttpServletRequest;
+
+
+/**
+ * 한 요청 안에서 검증이 끝난 JWT Claims를 보관하는 요청 단위(request scope) 홀더
+ * JwtVerificationFilter에서 한 번 검증한 Claims를 request attribute에 담아두고,
+ * JwtParcingUtil 등 같은 요청 안에서 Claims가 필요한 곳은 다시 서명검증/파싱하지 않고 꺼내서 사용한다.
+ * request attribute에 저장하므로 요청이 끝나면 함께 사라진다.
+ */
+public final class VerifiedClaimsHolder {
+
+    private static final String CLAIMS_ATTRIBUTE = VerifiedClaimsHolder.class.getName() + ".CLAIMS";
+    private static final String TOKEN_ATTRIBUTE = VerifiedClaimsHolder.class.getName() + ".TOKEN";
+
+    private VerifiedClaimsHolder() {}
+
+
+    /**
+     * 검증된 Claims를 현재 요청에 저장
+     * @param request 현재 요청
+     * @param jws 검증한 토큰 (다른 토큰의 Claims를 잘못 꺼내지 않도록 함께 저장)
+     * @param claims 검증된 Claims
+     */
+    public static void set(HttpServletRequest request, String jws, Claims claims) {
+        request.setAttribute(TOKEN_ATTRIBUTE, jws);
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+    }
+
+
+    /**
+     * 현재 요청에서 해당 토큰에 대해 이미 검증된 Claims를 반환
+     * @return 검증된 Claims. 아직 검증 전이거나 다른 토큰인 경우 null
+     */
+    public static Claims get(HttpServletRequest request, String jws) {
+        if (!jws.equals(request.getAttribute(TOKEN_ATTRIBUTE))) return null;
+        return (Claims) request.getAttribute(CLAIMS_ATTRIBUTE);
+    }
+}
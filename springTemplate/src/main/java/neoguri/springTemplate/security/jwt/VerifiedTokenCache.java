@@ -0,0 +1,103 @@
+package neoguri.springTemplate.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+
+/**
+ * 서명 검증과 파싱이 끝난 토큰의 Claims를 요청 사이에서 재사용하기 위한 프로세스 단위 캐시
+ * 같은 액세스 토큰이 만료 전까지 여러 번 들어오는 경우, 서명 검증(HMAC)과 JSON 파싱을 한 번만 수행한다.
+ *
+ * - 키 : 토큰 원문이 아닌 SHA-256 다이제스트 (TokenDigest)
+ * - 만료 : 각 엔트리는 토큰의 exp 시각에 맞춰 만료되며, exp 이후로는 절대 캐시에서 반환되지 않음
+ * - 크기 : maximum-size로 제한. 초과시 Caffeine의 W-TinyLFU 정책으로 제거
+ * - 값 : 여러 스레드가 같은 Claims를 공유하므로 수정할 수 없는 복사본(UnmodifiableClaims)으로 저장
+ * - 메트릭 : cache.gets{cache=jwtVerifiedToken, result=hit|miss} 등으로 노출
+ *
+ * 로그아웃(블랙리스트) 확인은 이 캐시와 별개로 매 요청 수행되어야 한다. (캐시는 서명 검증만 대신함)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwtVerifiedToken";
+
+    private final boolean enabled;
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.verified-token.enabled}") boolean enabled,
+                              @Value("${jwt.cache.verified-token.maximum-size}") long maximumSize,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+
+    /**
+     * 캐시에 검증된 Claims가 있으면 반환하고, 없으면 verifier로 검증 후 캐싱
+     * verifier에서 발생한 예외(만료, 서명 불일치 등)는 캐싱되지 않고 그대로 전달됨
+     * @param jws 검증할 토큰
+     * @param verifier 서명 검증 + 파싱 로직
+     * @return 검증된 Claims (캐시 사용시 수정 불가)
+     */
+    public Claims get(String jws, Function<String, Claims> verifier) {
+        if (!enabled) return verifier.apply(jws);
+
+        return cache.get(TokenDigest.digest(jws), digest -> new UnmodifiableClaims(verifier.apply(jws)));
+    }
+
+
+    /**
+     * 서명키 교체 등으로 기존 검증 결과를 더 이상 신뢰할 수 없을 때 호출
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+
+    /**
+     * 엔트리 생성 시점부터 토큰의 exp까지만 보관하도록 하는 만료 정책
+     */
+    private static final class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) return 0;  // 만료시간이 없는 토큰은 캐싱하지 않음
+
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
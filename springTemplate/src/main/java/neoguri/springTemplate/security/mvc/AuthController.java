@@ -0,0 +1,42 @@
+package neoguri.springTemplate.security.mvc;
+
+import lombok.RequiredArgsConstructor;
+import neoguri.springTemplate.dto.SingleResDto;
+import neoguri.springTemplate.security.jwt.JwtTokenizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 인증 관련 API. 로그인(/auth/login)은 JwtAuthenticationFilter에서 처리
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AuthController {
+
+    private final AuthService authService;
+    private final JwtTokenizer jwtTokenizer;
+
+    /**
+     * AccessToken 재발급 요청
+     * 쿠키로 받은 RefreshToken을 검증하고, 새 AccessToken은 Authorization 헤더로, 새 RefreshToken은 쿠키로 내려줌
+     * @return "data" : "성공 메세지"
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<SingleResDto<String>> refresh (@CookieValue(value = JwtTokenizer.REFRESH_TOKEN_COOKIE, required = false) String refreshToken) {
+        AuthService.TokenPair tokenPair = authService.reissue(refreshToken);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + tokenPair.getAccessToken());
+        headers.set(HttpHeaders.SET_COOKIE, jwtTokenizer.createRefreshTokenCookie(tokenPair.getRefreshToken()).toString());
+
+        return new ResponseEntity<>(new SingleResDto<>("Success Refresh"), headers, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,166 @@
+package neoguri.springTemplate.security.mvc;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import neoguri.springTemplate.config.CacheConfig;
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import neoguri.springTemplate.security.jwt.JwtTokenizer;
+import neoguri.springTemplate.security.jwt.TokenClaims;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import neoguri.springTemplate.security.userDetail.MemberAuthInfo;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * RefreshToken을 이용한 토큰 재발급 로직
+ * AuthenticationManager(비밀번호 해싱)와 DB를 거치지 않고, RefreshToken의 서명과 Claims, Redis에 저장된 값으로 새 토큰을 발급한다.
+ *
+ * - 회원 정보(이메일, ROLE)는 RefreshToken Claims에서 읽음
+ * - 최신 여부 : 탈퇴/삭제, ROLE/상태/비밀번호 변경시 MemberService가 저장된 RefreshToken을 삭제하므로 교체(CAS)에 실패해 재발급 불가
+ *   로컬 인증정보 캐시(memberDetails)에 해당 회원이 있으면 Claims와 비교. 이 캐시는 회원 정보 변경시 모든 서버에서 비워지므로(MemberDetailsCacheSync),
+ *   남아 있는 값은 최신이고 다르면 변경된 것 (RefreshToken 삭제에 실패한 경우의 보완)
+ * - 재발급해도 최초 로그인 시각(auth_time)은 유지되어, 로그인 후 jwt.key.refresh-session-max-minutes가 지나면 재로그인 필요
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+
+    private final JwtTokenizer jwtTokenizer;
+    private final RefreshTokenStore refreshTokenStore;
+    private final CacheManager cacheManager;
+
+
+    /**
+     * RefreshToken 검증 후 AccessToken/RefreshToken을 새로 발급 (RefreshToken Rotation)
+     * 저장된 RefreshToken과 다르면(이미 사용된 토큰의 재사용 등) 탈취로 보고 저장된 세션까지 삭제한다. 회원 정보가 바뀐 경우도 세션 삭제
+     * 단, 방금 교체된 이전 토큰이 유예시간(jwt.refresh-token-store.reuse-grace-seconds) 안에 다시 들어오면(탭 여러 개의 동시 재발급)
+     * 먼저 교체한 요청이 받은 RefreshToken을 그대로 내려줌
+     * @param refreshToken 쿠키로 전달받은 RefreshToken
+     * @return 새로 발급한 토큰 쌍
+     */
+    public TokenPair reissue(String refreshToken) {
+        Reissue reissue = createTokenPair(refreshToken);
+
+        String issuedRefreshToken = reissue.memberChanged
+                ? null
+                : refreshTokenStore.rotate(reissue.memberId, refreshToken, reissue.tokenPair.getRefreshToken(), reissue.refreshTokenTtl);
+        if (issuedRefreshToken == null) {
+            refreshTokenStore.revoke(reissue.memberId);
+            throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);
+        }
+
+        return reissue.withRefreshToken(issuedRefreshToken);
+    }
+
+
+    /**
+     * reissue의 논블로킹 버전 (reactive 스택용). DB 조회가 없으므로 별도 스케줄러 없이 실행하고, Redis 교체/삭제는 reactive API로 수행
+     * @param refreshToken 쿠키로 전달받은 RefreshToken
+     * @return 새로 발급한 토큰 쌍
+     */
+    public Mono<TokenPair> reissueReactive(String refreshToken) {
+        return Mono.fromCallable(() -> createTokenPair(refreshToken))
+                .flatMap(reissue -> (reissue.memberChanged
+                                ? Mono.<String>empty()
+                                : refreshTokenStore.rotateReactive(reissue.memberId, refreshToken, reissue.tokenPair.getRefreshToken(), reissue.refreshTokenTtl))
+                        .map(reissue::withRefreshToken)
+                        .switchIfEmpty(refreshTokenStore.revokeReactive(reissue.memberId)
+                                .then(Mono.error(new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN)))));
+    }
+
+
+    /**
+     * RefreshToken을 검증하고, Claims의 회원 정보로 새 토큰 쌍을 발급 (Redis 교체 전 단계)
+     */
+    private Reissue createTokenPair(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);
+
+        Claims claims = parseRefreshToken(refreshToken);
+        TokenClaims tokenClaims = TokenClaims.from(claims);  // 리프레쉬 토큰은 LEGACY 형식 (sub, username, role)
+        Long memberId = tokenClaims.getMemberId();
+        String email = tokenClaims.getEmail();
+        List<String> roles = tokenClaims.getRoles();
+        if (email == null) throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);  // 회원 정보가 없는 이전 형식의 토큰은 재로그인
+
+        Date authTime = authTime(claims);
+        Date refreshExpiration = jwtTokenizer.getRefreshTokenExpiration(authTime);
+        long refreshTtlMillis = refreshExpiration.getTime() - System.currentTimeMillis();
+        if (refreshTtlMillis <= 0) throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);  // 세션 최대 시간 초과
+
+        String newAccessToken = jwtTokenizer.delegateAccessToken(memberId, email, roles);
+        String newRefreshToken = jwtTokenizer.delegateRefreshToken(memberId, email, roles, authTime);
+
+        return new Reissue(memberId, new TokenPair(newAccessToken, newRefreshToken), Duration.ofMillis(refreshTtlMillis),
+                changedSinceIssued(memberId, email, roles));
+    }
+
+
+    /**
+     * 로컬 인증정보 캐시에 있는 회원 정보와 Claims 비교. 캐시에 없으면 DB를 조회하지 않고 false (최신 여부는 Redis 교체에서 판단)
+     */
+    private boolean changedSinceIssued(Long memberId, String email, List<String> roles) {
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER_DETAILS_CACHE);
+        MemberAuthInfo authInfo = cache == null ? null : cache.get(email, MemberAuthInfo.class);
+        if (authInfo == null) return false;
+
+        return !Objects.equals(authInfo.getMemberId(), memberId) || !authInfo.getRoles().equals(roles);
+    }
+
+
+    private Claims parseRefreshToken(String refreshToken) {
+        try {
+            Claims claims = jwtTokenizer.getClaims(refreshToken).getBody();
+            if (!JwtTokenizer.REFRESH_TOKEN_TYPE.equals(claims.get(JwtTokenizer.TOKEN_TYPE_CLAIM)) || claims.getSubject() == null)
+                throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);
+            return claims;
+        }
+        catch (JwtException | IllegalArgumentException e) { throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN); }
+    }
+
+
+    /**
+     * 최초 로그인 시각. auth_time이 없는 이전 RefreshToken은 발급 시각(iat)을 기준으로 하고, 이후 재발급부터 auth_time으로 유지
+     */
+    private Date authTime(Claims claims) {
+        Number authTime = claims.get(JwtTokenizer.AUTH_TIME_CLAIM, Number.class);
+        if (authTime != null) return new Date(authTime.longValue() * 1000);
+        if (claims.getIssuedAt() != null) return claims.getIssuedAt();
+        throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);
+    }
+
+
+    @Getter @AllArgsConstructor
+    public static class TokenPair {
+        private final String accessToken;
+        private final String refreshToken;
+    }
+
+
+    @AllArgsConstructor
+    private static class Reissue {
+        private final Long memberId;
+        private final TokenPair tokenPair;
+        private final Duration refreshTokenTtl;
+        private final boolean memberChanged;  // 발급 이후 ROLE 등이 바뀐 회원 (교체하지 않고 세션 삭제)
+
+        /**
+         * Redis 교체 결과로 받은 RefreshToken으로 응답할 토큰 쌍 (유예시간 안의 동시 재발급이면 먼저 발급된 토큰)
+         */
+        private TokenPair withRefreshToken(String refreshToken) {
+            if (refreshToken.equals(tokenPair.getRefreshToken())) return tokenPair;
+            return new TokenPair(tokenPair.getAccessToken(), refreshToken);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package neoguri.springTemplate.security.mvc;
+
+import neoguri.springTemplate.security.jwt.JwtKeyManager;
+import neoguri.springTemplate.security.jwt.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * JWT 검증용 공개키 목록(JWKS) API
+ * 다른 서비스는 이 목록을 캐싱해두고 토큰 헤더의 kid에 맞는 공개키로 직접 검증한다. (HMAC 키는 공개하지 않으므로 HMAC 모드에서는 빈 목록)
+ */
+@RestController
+public class JwksController {
+
+    private final JwtKeyManager jwtKeyManager;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtKeyManager jwtKeyManager, @Value("${jwt.jwks.cache-seconds}") long cacheSeconds) {
+        this.jwtKeyManager = jwtKeyManager;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheSeconds)).cachePublic();
+    }
+
+
+    /**
+     * 미리 만들어둔 JWKS를 그대로 반환. ETag가 같으면(If-None-Match) 본문 없이 304 응답
+     * @return {"keys" : [ {kty, kid, alg, use, n, e | crv, x, y}, ... ]}
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        JwtKeyRing keyRing = jwtKeyManager.getKeyRing();
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(keyRing.getJwksEtag())
+                .body(keyRing.getJwks());
+    }
+}
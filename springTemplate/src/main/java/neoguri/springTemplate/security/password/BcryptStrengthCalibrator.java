@@ -0,0 +1,67 @@
+package neoguri.springTemplate.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+
+/**
+ * 현재 서버 하드웨어에서 bcrypt 해싱 1회가 목표 시간(target-hash-millis)에 가장 가깝게 걸리는 strength(cost)를 찾는 유틸
+ * strength가 1 오를 때마다 해싱 시간이 2배가 되므로, 목표 시간을 넘기기 직전의 strength를 선택한다.
+ * 기동시 1회만 실행하며, 측정 시간은 최대 목표 시간의 약 2배 (+ JIT 워밍업 1회)
+ * 서버(하드웨어)마다 결과가 다를 수 있으므로 선택된 값을 로그로 남기고, 항상 [min-strength, max-strength] 범위 안에서 고른다.
+ */
+@Slf4j
+public final class BcryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "strength-calibration-password";
+    private static final int BCRYPT_MIN_STRENGTH = 4;
+    private static final int BCRYPT_MAX_STRENGTH = 31;
+
+    private BcryptStrengthCalibrator() {}
+
+
+    /**
+     * @param targetMillis 해싱 1회 목표 시간(ms)
+     * @param minStrength 하한 (보안상 이보다 낮추지 않음. 목표 시간을 넘더라도 사용)
+     * @param maxStrength 상한
+     * @return 선택된 strength
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        validateRange(minStrength, maxStrength);
+        new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD);  // JIT 워밍업
+
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(strength).encode(SAMPLE_PASSWORD);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            if (strength > minStrength && elapsedMillis > targetMillis) break;
+            chosen = strength;
+            if (elapsedMillis * 2 > targetMillis) break;  // 다음 strength는 목표 시간을 넘김
+        }
+
+        log.info("Calibrated bcrypt strength: {} (target {}ms, range {}-{})", chosen, targetMillis, minStrength, maxStrength);
+        return chosen;
+    }
+
+
+    /**
+     * 직접 지정한 strength를 [minStrength, maxStrength] 범위로 맞춤
+     * @return 범위 안으로 조정된 strength
+     */
+    public static int clamp(int strength, int minStrength, int maxStrength) {
+        validateRange(minStrength, maxStrength);
+        int clamped = Math.max(minStrength, Math.min(maxStrength, strength));
+
+        if (clamped != strength) log.warn("Configured bcrypt strength {} is outside {}-{}, using {}", strength, minStrength, maxStrength, clamped);
+        else log.info("Configured bcrypt strength: {}", clamped);
+        return clamped;
+    }
+
+
+    private static void validateRange(int minStrength, int maxStrength) {
+        if (minStrength < BCRYPT_MIN_STRENGTH || maxStrength > BCRYPT_MAX_STRENGTH || minStrength > maxStrength)
+            throw new IllegalArgumentException("Invalid bcrypt strength range: " + minStrength + "-" + maxStrength);
+    }
+}
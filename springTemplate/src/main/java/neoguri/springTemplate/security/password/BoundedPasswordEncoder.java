@@ -0,0 +1,110 @@
+package neoguri.springTemplate.security.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import neoguri.springTemplate.exception.exceptionCode.AuthException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+
+/**
+ * 로그인 비밀번호 검증(matches)을 전용 스레드풀에서 실행하는 PasswordEncoder
+ * 해싱은 CPU를 많이 쓰는 작업이라 Tomcat 워커 스레드에서 그대로 실행하면 로그인이 몰릴 때 다른 API까지 CPU를 뺏긴다.
+ * 동시에 실행되는 검증 수를 스레드 수로 제한하고, 대기열(queue-capacity)이 가득 차거나 대기 시간(wait-timeout-millis)을 넘기면
+ * 바로 LOGIN_OVERLOADED(503) 로 실패 처리한다.
+ *
+ * 제한되는 것은 동시에 실행/대기하는 검증 수와 요청이 기다리는 시간뿐이다.
+ * 대기 시간을 넘기면 아직 시작하지 않은 작업은 취소되지만, 이미 시작한 bcrypt 계산은 인터럽트에 반응하지 않아 끝까지 실행된다. (결과만 버림)
+ * encode는 가입/비밀번호 변경/일괄 등록 등 로그인 외 경로에서도 쓰이므로 스레드풀을 거치지 않고 호출한 스레드에서 실행한다.
+ *
+ * 메트릭
+ * - executor.* (name=passwordHash) : 대기열 크기, 실행중 스레드 수, 실행시간 등
+ * - password.hash.rejected : 대기열 초과/대기 시간 초과로 거절된 요청 수
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final ExecutorService executor;
+    private final long waitTimeoutMillis;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  long waitTimeoutMillis, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, "passwordHash");
+        this.rejectedCounter = meterRegistry.counter("password.hash.rejected");
+    }
+
+
+    /**
+     * 호출한 스레드에서 바로 해싱 (로그인 과부하 응답과 무관한 경로에서도 쓰이므로 제한하지 않음)
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 알고리즘/strength만 확인하므로 스레드풀을 거치지 않음
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try { future = executor.submit(task); }
+        catch (RejectedExecutionException e) { throw overloaded("Password hash queue is full"); }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);  // 대기열에 있으면 제거. 실행중인 bcrypt는 중단되지 않음
+            throw overloaded("Password hash wait timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw overloaded("Interrupted while waiting for password hash");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private AuthException overloaded(String message) {
+        rejectedCounter.increment();
+        return new AuthException(ExceptionCode.LOGIN_OVERLOADED, message);
+    }
+
+
+    @Override
+    public void destroy() {
+        threadPoolExecutor.shutdown();
+    }
+}
@@ -0,0 +1,72 @@
+package neoguri.springTemplate.security.reactive;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import neoguri.springTemplate.security.jwt.BearerToken;
+import neoguri.springTemplate.security.jwt.JwtTokenizer;
+import neoguri.springTemplate.security.jwt.TokenClaims;
+import neoguri.springTemplate.security.redis.LogoutDenylist;
+import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+
+/**
+ * JwtVerificationFilter의 WebFlux 버전 (reactive 스택용)
+ * @Component로 등록하지 않고 ReactiveSecurityConfiguration에서 Security 필터 체인에만 추가 (WebFilter 빈은 전역 필터로 자동 등록되므로)
+ *
+ * - 토큰 검증은 JwtTokenizer의 검증 캐시를 그대로 사용 (CPU 작업이라 이벤트 루프에서 바로 처리)
+ * - 로그아웃 여부는 LogoutDenylist.isLoggedOutReactive()로 Redis 응답을 기다리지 않고 확인
+ * - 인증정보는 SecurityContextHolder(ThreadLocal) 대신 Reactor Context에 넣음
+ * 검증에 실패해도 요청은 그대로 진행하고, 실패 원인은 "Exception" attribute로 넘김 (서블릿 버전과 동일)
+ */
+@RequiredArgsConstructor
+public class JwtVerificationWebFilter implements WebFilter {
+
+    private final JwtTokenizer jwtTokenizer;
+    private final CustomAuthorityUtils customAuthorityUtils;
+    private final LogoutDenylist logoutDenylist;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String jws = BearerToken.resolve(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        if (jws == null) return chain.filter(exchange);  // Bearer 토큰이 없는 요청(비로그인, 로그인 요청 등)은 필터를 건너뜀
+
+        Authentication authentication;
+        try {
+            authentication = createAuthentication(jwtTokenizer.getVerifiedClaims(jws));
+        } catch (RuntimeException re) {  // ExpiredJwtException, SignatureException 등
+            exchange.getAttributes().put("Exception", re);
+            return chain.filter(exchange);
+        }
+
+        return logoutDenylist.isLoggedOutReactive(jws)
+                .onErrorResume(e -> {  // Redis 조회 실패시 인증 없이 진행
+                    exchange.getAttributes().put("Exception", e);
+                    return Mono.just(true);
+                })
+                .flatMap(loggedOut -> loggedOut
+                        ? chain.filter(exchange)
+                        : chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication)));
+    }
+
+
+    /**
+     * 토큰 형식(LEGACY/COMPACT)에 상관없이 email, ROLE 추출
+     */
+    private Authentication createAuthentication(Claims claims) {
+        TokenClaims tokenClaims = TokenClaims.from(claims);
+        List<GrantedAuthority> authorityList = customAuthorityUtils.createAuthorities(tokenClaims.getRoles());
+
+        return new UsernamePasswordAuthenticationToken(tokenClaims.getEmail(), null, authorityList);
+    }
+}
@@ -0,0 +1,81 @@
+package neoguri.springTemplate.security.reactive;
+
+import lombok.RequiredArgsConstructor;
+import neoguri.springTemplate.domain.member.entity.Member;
+import neoguri.springTemplate.dto.SingleResDto;
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.AuthException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import neoguri.springTemplate.security.dto.LoginDto;
+import neoguri.springTemplate.security.jwt.JwtTokenizer;
+import neoguri.springTemplate.security.mvc.AuthService;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * AuthController의 reactive 버전. RefreshToken 교체는 RefreshTokenStore.rotateReactive()로 처리
+ * 서블릿 스택에서 JwtAuthenticationFilter가 처리하는 로그인(/auth/login)도 여기서 처리 (같은 형식의 토큰/쿠키 발급)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthController {
+
+    private final AuthService authService;
+    private final JwtTokenizer jwtTokenizer;
+    private final ReactiveAuthenticationManager reactiveAuthenticationManager;
+    private final RefreshTokenStore refreshTokenStore;
+
+    /**
+     * 로그인. 인증 성공시 AccessToken은 Authorization 헤더로, RefreshToken은 쿠키로 내려줌
+     * 인증 실패는 401(NOT_EXACT_PASSWORD), 해싱 대기열 초과/RefreshToken 저장 실패 등 AuthException은 해당 ExceptionCode로 응답
+     * @return "data" : "성공 메세지"
+     */
+    @PostMapping("/login")
+    public Mono<ResponseEntity<SingleResDto<String>>> login (@RequestBody LoginDto loginDto) {
+        if (loginDto.getEmail() == null || loginDto.getPassword() == null)
+            return Mono.error(new BusinessLogicException(ExceptionCode.INVALID_LOGIN_REQUEST));
+
+        return reactiveAuthenticationManager.authenticate(new UsernamePasswordAuthenticationToken(loginDto.getEmail(), loginDto.getPassword()))
+                .map(authentication -> (Member) authentication.getPrincipal())
+                .flatMap(member -> {
+                    String accessToken = jwtTokenizer.delegateAccessToken(member);
+                    String refreshToken = jwtTokenizer.delegateRefreshToken(member);
+
+                    return refreshTokenStore.saveReactive(member.getMemberId(), refreshToken)
+                            .then(Mono.fromCallable(() -> tokenResponse(accessToken, refreshToken, "Success Login")));
+                })
+                .onErrorMap(AuthenticationException.class, e -> new BusinessLogicException(e instanceof AuthException
+                        ? ((AuthException) e).getExceptionCode()
+                        : ExceptionCode.NOT_EXACT_PASSWORD));
+    }
+
+
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<SingleResDto<String>>> refresh (@CookieValue(value = JwtTokenizer.REFRESH_TOKEN_COOKIE, required = false) String refreshToken) {
+        return authService.reissueReactive(refreshToken)
+                .map(tokenPair -> tokenResponse(tokenPair.getAccessToken(), tokenPair.getRefreshToken(), "Success Refresh"));
+    }
+
+
+    private ResponseEntity<SingleResDto<String>> tokenResponse (String accessToken, String refreshToken, String message) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+        headers.set(HttpHeaders.SET_COOKIE, jwtTokenizer.createRefreshTokenCookie(refreshToken).toString());
+
+        return new ResponseEntity<>(new SingleResDto<>(message), headers, HttpStatus.OK);
+    }
+}
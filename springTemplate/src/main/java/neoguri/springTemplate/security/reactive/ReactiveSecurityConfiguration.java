@@ -0,0 +1,73 @@
+package neoguri.springTemplate.security.reactive;
+
+import lombok.RequiredArgsConstructor;
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.security.jwt.JwtTokenizer;
+import neoguri.springTemplate.security.redis.LogoutDenylist;
+import neoguri.springTemplate.security.userDetail.MemberDetailsService;
+import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.header.XFrameOptionsServerHttpHeadersWriter;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+
+/**
+ * reactive(WebFlux) 스택 Security 설정. spring.main.web-application-type=reactive (reactive 프로필)일 때만 적용
+ * 서블릿 스택(SecurityConfiguration)과 같은 규칙 : 세션 없음(STATELESS), csrf/formLogin/httpBasic 미사용, 인가는 permitAll
+ * 로그인(/auth/login)은 ReactiveAuthController에서 reactiveAuthenticationManager로 처리 (발급하는 토큰은 서블릿 스택과 같음)
+ */
+@RequiredArgsConstructor
+@EnableWebFluxSecurity
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfiguration {
+
+    private final JwtTokenizer jwtTokenizer;
+    private final CustomAuthorityUtils customAuthorityUtils;
+    private final LogoutDenylist logoutDenylist;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity serverHttpSecurity) {
+
+        return serverHttpSecurity
+                .headers(headers -> headers.frameOptions().mode(XFrameOptionsServerHttpHeadersWriter.Mode.SAMEORIGIN))  // 동일 출처로부터 들어오는 request만 페이지 렌더링 허용
+                .csrf().disable()
+                .formLogin().disable()
+                .httpBasic().disable()
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())  // 세션에 인증정보 저장 안함
+                .addFilterAt(new JwtVerificationWebFilter(jwtTokenizer, customAuthorityUtils, logoutDenylist), SecurityWebFiltersOrder.AUTHENTICATION)
+                .authorizeExchange(authorize -> authorize
+                        .anyExchange().permitAll()
+                ).build();
+    }
+
+    /**
+     * 로그인용 인증 매니저. 서블릿 스택의 DaoAuthenticationProvider와 같은 MemberDetailsService(memberDetails 캐시, 재해싱)와 PasswordEncoder를 사용
+     * MemberDetailsService는 JPA(블로킹)라 boundedElastic에서 호출하고, 없는 계정은 비밀번호 불일치와 같은 BadCredentialsException으로 처리
+     * (빈을 직접 등록하므로 Spring Boot의 기본 인메모리 사용자도 생성되지 않음)
+     */
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(MemberDetailsService memberDetailsService, PasswordEncoder passwordEncoder) {
+        ReactiveUserDetailsService userDetailsService = username -> Mono.fromCallable(() -> memberDetailsService.loadUserByUsername(username))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(BusinessLogicException.class, e -> Mono.empty());
+
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager = new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+        authenticationManager.setUserDetailsPasswordService((user, newPassword) ->
+                Mono.fromCallable(() -> memberDetailsService.updatePassword(user, newPassword)).subscribeOn(Schedulers.boundedElastic()));
+        return authenticationManager;
+    }
+}
@@ -0,0 +1,242 @@
+package neoguri.springTemplate.security.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import neoguri.springTemplate.security.jwt.TokenDigest;
+import neoguri.springTemplate.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * 로그아웃된 AccessToken(블랙리스트)을 조회/등록하는 컴포넌트. Redis 앞단에 로컬 캐시를 두어 대부분의 조회가 JVM 밖으로 나가지 않도록 한다.
+ *
+ * 조회 순서
+ * 1. Bloom Filter : 로그아웃된 토큰 다이제스트를 모아둔 필터. "확실히 없음"이면 Redis 조회 없이 바로 false (대부분의 요청)
+ * 2. 로컬 캐시 : Bloom Filter가 "있을 수도 있음"이라고 한 경우, 최근 조회 결과(로그아웃 여부)를 재사용
+ * 3. Redis : 위 두 단계로 판단할 수 없을 때만 GET 1회
+ *
+ * 최신화 방법
+ * - 로그아웃 등록시 Redis에 (블랙리스트 키 + 인덱스(sorted set) + pub/sub 메세지)를 파이프라인으로 한 번에 전송
+ * - 모든 인스턴스는 pub/sub 채널을 구독하여 다른 인스턴스의 로그아웃도 즉시 Bloom Filter와 로컬 캐시에 반영
+ * - 기동시, 그리고 주기적으로 인덱스(sorted set)에서 만료되지 않은 다이제스트만 읽어 Bloom Filter를 새로 만듦 (만료된 값 정리 + 유실된 메세지 보정)
+ * - 기동 후 첫 생성에 실패하면(레디스 장애 등) 필터를 신뢰하지 않고 매번 Redis를 조회
+ * - pub/sub 메세지를 놓친 경우(구독 재연결 중 등) 다른 인스턴스에서 로그아웃한 토큰은 다음 재생성(rebuild-interval-millis)까지 허용될 수 있음.
+ *   이 시간이 곧 로그아웃 반영 지연의 상한이므로, 더 짧아야 하면 rebuild-interval-millis를 줄인다.
+ *
+ * Redis 키는 토큰 원문이 아닌 "logout:" + SHA-256 다이제스트(Base64url)를 사용해 키 크기를 고정 (약 50byte)
+ * 마이그레이션 : legacy-key-fallback은 기본 꺼짐. 토큰 원문 키를 쓰던 버전에서 올리는 배포에서만 켠다.
+ *              켜져 있으면 이전 방식(토큰 원문 키)도 같은 왕복(MGET)에서 함께 조회.
+ *              Bloom Filter는 인덱스(새 방식)로만 만들어지므로 이전 방식으로 로그아웃된 토큰을 모른다. 그래서 이 동안은 필터를 건너뛰고 로컬 캐시 -> Redis 순으로 조회.
+ *              이전 방식으로 저장된 키가 모두 만료된 뒤(최대 AccessToken 만료시간)에는 다시 꺼야 Bloom Filter가 적용된다.
+ *
+ * reactive 스택(WebFlux)에서는 isLoggedOutReactive()로 같은 Bloom Filter/로컬 캐시를 거친 뒤 ReactiveStringRedisTemplate으로 조회
+ *
+ * Redis 접근은 StringRedisTemplate, ReactiveStringRedisTemplate, RedisMessageListenerContainer만 사용하므로, 테스트시 embedded/fake Redis로 교체 가능
+ */
+@Slf4j
+@Component
+public class LogoutDenylist implements MessageListener {
+
+    static final String LOGOUT_VALUE = "Logout";
+    static final String KEY_PREFIX = "logout:";
+    static final String INDEX_KEY = "logout:index";
+    static final String CHANNEL = "logout:channel";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<String, Boolean> lookupCache;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final boolean legacyKeyFallback;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile BloomFilter rebuildingFilter;  // 재생성 중에 들어온 로그아웃도 새 필터에 반영하기 위함
+    private volatile boolean warmed = false;
+
+    public LogoutDenylist(StringRedisTemplate redisTemplate,
+                          ReactiveStringRedisTemplate reactiveRedisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          MeterRegistry meterRegistry,
+                          @Value("${jwt.denylist.expected-insertions}") long expectedInsertions,
+                          @Value("${jwt.denylist.false-positive-rate}") double falsePositiveRate,
+                          @Value("${jwt.denylist.local-cache-seconds}") long localCacheSeconds,
+                          @Value("${jwt.denylist.legacy-key-fallback}") boolean legacyKeyFallback) {
+        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.legacyKeyFallback = legacyKeyFallback;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.lookupCache = Caffeine.newBuilder()
+                .maximumSize(expectedInsertions)
+                .expireAfterWrite(Duration.ofSeconds(localCacheSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, lookupCache, "jwtLogoutDenylist");
+    }
+
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuildBloomFilter();
+    }
+
+
+    /**
+     * 로그아웃된 토큰인지 확인
+     * @param accessToken 검사할 AccessToken
+     * @return 로그아웃된 토큰이면 true
+     */
+    public boolean isLoggedOut(String accessToken) {
+        byte[] digestBytes = TokenDigest.digestBytes(accessToken);
+        if (definitelyNotLoggedOut(digestBytes)) return false;  // 대부분의 정상 요청은 여기서 종료
+
+        String digest = ENCODER.encodeToString(digestBytes);
+        return lookupCache.get(digest, key -> lookupRedis(digest, accessToken));
+    }
+
+
+    /**
+     * isLoggedOut의 논블로킹 버전 (reactive 스택용)
+     * Bloom Filter와 로컬 캐시로 판단되면 Redis를 조회하지 않고, 조회가 필요할 때만 ReactiveStringRedisTemplate 사용
+     * @param accessToken 검사할 AccessToken
+     * @return 로그아웃된 토큰이면 true
+     */
+    public Mono<Boolean> isLoggedOutReactive(String accessToken) {
+        byte[] digestBytes = TokenDigest.digestBytes(accessToken);
+        if (definitelyNotLoggedOut(digestBytes)) return Mono.just(Boolean.FALSE);
+
+        String digest = ENCODER.encodeToString(digestBytes);
+        Boolean cached = lookupCache.getIfPresent(digest);
+        if (cached != null) return Mono.just(cached);
+
+        Mono<Boolean> lookup = legacyKeyFallback
+                ? reactiveRedisTemplate.opsForValue().multiGet(List.of(denylistKey(digest), accessToken))
+                        .map(values -> values.stream().anyMatch(LOGOUT_VALUE::equals))
+                : reactiveRedisTemplate.opsForValue().get(denylistKey(digest)).map(LOGOUT_VALUE::equals);
+
+        return lookup.defaultIfEmpty(Boolean.FALSE).doOnNext(loggedOut -> lookupCache.put(digest, loggedOut));
+    }
+
+
+    /**
+     * 로그아웃 등록. 토큰의 남은 만료시간 동안만 블랙리스트에 보관
+     * @param accessToken 로그아웃할 AccessToken
+     * @param expirationMillis 토큰 만료까지 남은 시간(ms)
+     */
+    public void logout(String accessToken, long expirationMillis) {
+        if (expirationMillis <= 0) return;  // 이미 만료된 토큰은 등록할 필요 없음
+
+        String digest = TokenDigest.digest(accessToken);
+        String key = denylistKey(digest);
+        long expiresAt = System.currentTimeMillis() + expirationMillis;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.pSetEx(key, expirationMillis, LOGOUT_VALUE);
+            stringConnection.zAdd(INDEX_KEY, expiresAt, digest);
+            stringConnection.publish(CHANNEL, digest);
+            return null;
+        });
+
+        markLoggedOut(digest);
+    }
+
+
+    /**
+     * 다른 인스턴스(혹은 자신)에서 발행한 로그아웃 메세지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        markLoggedOut(new String(message.getBody(), StandardCharsets.US_ASCII));
+    }
+
+
+    /**
+     * 인덱스(sorted set)에서 만료된 다이제스트를 정리하고, 남은 다이제스트로 Bloom Filter를 새로 생성
+     */
+    @Scheduled(fixedDelayString = "${jwt.denylist.rebuild-interval-millis}", initialDelayString = "${jwt.denylist.rebuild-interval-millis}")
+    public void rebuildBloomFilter() {
+        BloomFilter newFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = newFilter;
+
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<String> digests = redisTemplate.opsForZSet().rangeByScore(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+            if (digests != null) digests.forEach(digest -> newFilter.put(DECODER.decode(digest)));
+
+            bloomFilter = newFilter;
+            warmed = true;
+        } catch (RuntimeException e) {
+            log.warn("Logout denylist bloom filter rebuild failed: {}", e.getMessage());
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+
+    /**
+     * Bloom Filter만으로 로그아웃되지 않은 토큰이라고 확정할 수 있는지 확인
+     * 필터가 아직 만들어지지 않았거나, 필터에 없는 이전 방식의 키를 함께 조회해야 하는 동안(legacy-key-fallback)은 확정하지 않음
+     */
+    private boolean definitelyNotLoggedOut(byte[] digestBytes) {
+        return warmed && !legacyKeyFallback && !bloomFilter.mightContain(digestBytes);
+    }
+
+
+    private void markLoggedOut(String digest) {
+        byte[] digestBytes = DECODER.decode(digest);
+        BloomFilter rebuilding = rebuildingFilter;  // 재생성 중인 필터를 먼저 확인해야 교체 직전에 들어온 값이 유실되지 않음
+        if (rebuilding != null) rebuilding.put(digestBytes);
+        bloomFilter.put(digestBytes);
+        lookupCache.put(digest, Boolean.TRUE);
+    }
+
+
+    /**
+     * Redis 조회 (1회 왕복). legacy-key-fallback 사용시 다이제스트 키와 이전 방식의 원문 키를 MGET으로 함께 조회
+     */
+    private boolean lookupRedis(String digest, String accessToken) {
+        if (!legacyKeyFallback) return LOGOUT_VALUE.equals(redisTemplate.opsForValue().get(denylistKey(digest)));
+
+        List<String> values = redisTemplate.opsForValue().multiGet(List.of(denylistKey(digest), accessToken));
+        return values != null && values.stream().anyMatch(LOGOUT_VALUE::equals);
+    }
+
+
+    /**
+     * 블랙리스트 Redis 키 : "logout:" + 토큰 다이제스트
+     */
+    private String denylistKey(String digest) {
+        return KEY_PREFIX + digest;
+    }
+}
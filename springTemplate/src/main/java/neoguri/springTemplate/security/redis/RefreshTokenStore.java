@@ -0,0 +1,232 @@
+package neoguri.springTemplate.security.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import neoguri.springTemplate.exception.exceptionCode.AuthException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import neoguri.springTemplate.security.jwt.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+
+
+/**
+ * 로그인한 회원의 RefreshToken을 Redis에 저장/검증하는 컴포넌트
+ * key : refresh-token-prefix + 회원 식별자, value : RefreshToken 원문이 아닌 SHA-256 다이제스트(43자)
+ * 원문 대신 다이제스트만 저장하므로 Redis 메모리와 네트워크 전송량이 줄고, Redis가 유출되어도 토큰을 재사용할 수 없다.
+ *
+ * 저장은 Lettuce 비동기(reactive) API로 보내며, RefreshToken 만료시간과 같은 TTL을 설정한다.
+ * write-mode
+ * - SYNC (기본값) : ack-timeout-millis 동안 Redis 응답을 기다림. 저장 실패/시간 초과시 AuthException(REFRESH_TOKEN_STORE_UNAVAILABLE)이 발생해 로그인이 실패 처리됨 (503)
+ * - ASYNC : 응답을 기다리지 않음 (fire-and-forget). 로그인 응답이 Redis 왕복시간에 묶이지 않음. 실패는 로그와 메트릭으로만 확인
+ *          저장에 실패해도 로그인은 성공하므로, 저장되지 않은 RefreshToken이 발급될 수 있다. (재발급 요청시 INVALID_REFRESH_TOKEN -> 재로그인)
+ *
+ * 재발급 유예 (reuse-grace-seconds)
+ * 탭 두 개가 같은 RefreshToken으로 동시에 재발급하면 한쪽은 교체(CAS)에 실패해 재사용으로 판단되고 세션이 삭제된다.
+ * 그래서 교체에 성공하면 (이전 토큰 다이제스트, 새 토큰 다이제스트, 새 토큰)을 유예 키에 유예시간 동안 보관하고,
+ * 그 사이 이전 토큰으로 들어온 요청에는 방금 발급한 새 RefreshToken을 그대로 돌려준다. (쿠키가 어느 응답으로 덮어써져도 저장된 값과 같음)
+ * 유예시간이 지났거나 그 사이 다시 교체/삭제된 경우에는 기존처럼 재사용으로 처리. 유예 키에만 유예시간 동안 새 토큰 원문이 남으며, 0이면 사용하지 않음
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    public enum WriteMode { ASYNC, SYNC }
+
+    private static final String GRACE_KEY_SUFFIX = ":grace";
+
+    /**
+     * 저장된 값이 기존 토큰(다이제스트 혹은 이전 방식의 원문)과 같을 때만 새 토큰 다이제스트로 교체하는 Compare-And-Swap 스크립트
+     * Redis 안에서 원자적으로 실행되므로, 같은 RefreshToken으로 동시에 재발급을 요청해도 한 요청만 교체에 성공한다.
+     * 교체에 실패해도 유예시간 안에 방금 교체된 이전 토큰이고 그 뒤로 바뀐 것이 없으면, 그때 발급한 새 토큰을 반환
+     * KEYS[1] : 저장 키, KEYS[2] : 유예 키
+     * ARGV[1] : 기존 토큰 다이제스트, ARGV[2] : 기존 토큰 원문, ARGV[3] : 새 토큰 다이제스트, ARGV[4] : TTL(ms), ARGV[5] : 새 토큰, ARGV[6] : 유예시간(ms)
+     * 반환값 : 응답으로 내려줄 RefreshToken. 교체도 유예도 아니면 nil
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local stored = redis.call('GET', KEYS[1]) " +
+            "if stored == ARGV[1] or stored == ARGV[2] then " +
+            "  redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[4]) " +
+            "  if tonumber(ARGV[6]) > 0 then " +
+            "    redis.call('SET', KEYS[2], ARGV[1] .. ' ' .. ARGV[3] .. ' ' .. ARGV[5], 'PX', ARGV[6]) " +
+            "  end " +
+            "  return ARGV[5] " +
+            "end " +
+            "local grace = redis.call('GET', KEYS[2]) " +
+            "if grace and stored then " +
+            "  local first = string.find(grace, ' ', 1, true) " +
+            "  local second = string.find(grace, ' ', first + 1, true) " +
+            "  if string.sub(grace, 1, first - 1) == ARGV[1] and string.sub(grace, first + 1, second - 1) == stored then " +
+            "    return string.sub(grace, second + 1) " +
+            "  end " +
+            "end " +
+            "return false", String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final String refreshPrefix;
+    private final Duration refreshTokenTtl;
+    private final WriteMode writeMode;
+    private final Duration ackTimeout;
+    private final Duration reuseGrace;
+    private final Counter writeFailureCounter;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             ReactiveStringRedisTemplate reactiveRedisTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${jwt.refresh-token-prefix}") String refreshPrefix,
+                             @Value("${jwt.key.refresh-token-expiration-minutes}") int refreshTokenExpirationMinutes,
+                             @Value("${jwt.refresh-token-store.write-mode}") WriteMode writeMode,
+                             @Value("${jwt.refresh-token-store.ack-timeout-millis}") long ackTimeoutMillis,
+                             @Value("${jwt.refresh-token-store.reuse-grace-seconds}") long reuseGraceSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.refreshPrefix = refreshPrefix;
+        this.refreshTokenTtl = Duration.ofMinutes(refreshTokenExpirationMinutes);
+        this.writeMode = writeMode;
+        this.ackTimeout = Duration.ofMillis(ackTimeoutMillis);
+        this.reuseGrace = Duration.ofSeconds(reuseGraceSeconds);
+        this.writeFailureCounter = meterRegistry.counter("jwt.refresh-token.write.failures");
+    }
+
+
+    /**
+     * 로그인 시 RefreshToken 저장 (회원당 1개, 새 로그인시 덮어씀)
+     * @throws AuthException SYNC 모드에서 저장에 실패하거나 ack-timeout-millis 안에 응답이 없는 경우
+     */
+    public void save(Long memberId, String refreshToken) {
+        Mono<Boolean> write = write(memberId, refreshToken);
+
+        if (writeMode == WriteMode.SYNC) {
+            Boolean stored;
+            try {
+                stored = write.timeout(ackTimeout).block();  // 시간 초과도 에러 신호(TimeoutException)로 받기 위해 block(timeout) 대신 timeout 사용
+            } catch (RuntimeException e) {
+                throw writeFailed(memberId, e.getMessage());
+            }
+            if (!Boolean.TRUE.equals(stored)) throw writeFailed(memberId, "not stored");
+            return;
+        }
+
+        ignoreFailure(memberId, write).subscribe();
+    }
+
+
+    /**
+     * save의 논블로킹 버전 (reactive 스택 로그인용). 두 모드 모두 Redis 쓰기 자체를 반환하므로 호출한 쪽의 체인 안에서 실행됨
+     * ASYNC : 저장에 실패해도 에러 신호 없이 완료 (로그와 메트릭만 남김)
+     * SYNC : Redis 응답(ack-timeout-millis)을 기다리고, 저장에 실패하면 AuthException(REFRESH_TOKEN_STORE_UNAVAILABLE) 에러 신호
+     */
+    public Mono<Void> saveReactive(Long memberId, String refreshToken) {
+        if (writeMode == WriteMode.ASYNC) return ignoreFailure(memberId, write(memberId, refreshToken));
+
+        return write(memberId, refreshToken)
+                .timeout(ackTimeout)
+                .onErrorMap(e -> writeFailed(memberId, e.getMessage()))
+                .defaultIfEmpty(Boolean.FALSE)
+                .flatMap(stored -> stored ? Mono.<Void>empty() : Mono.error(writeFailed(memberId, "not stored")));
+    }
+
+
+    private Mono<Boolean> write(Long memberId, String refreshToken) {
+        return reactiveRedisTemplate.opsForValue().set(key(memberId), TokenDigest.digest(refreshToken), refreshTokenTtl);
+    }
+
+
+    /**
+     * ASYNC 모드 : 쓰기 실패를 로그와 메트릭으로만 남기고 완료 처리
+     */
+    private Mono<Void> ignoreFailure(Long memberId, Mono<Boolean> write) {
+        return write.doOnError(e -> {
+                    writeFailureCounter.increment();
+                    log.warn("Refresh token write failed for member {}: {}", memberId, e.getMessage());
+                })
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+
+    /**
+     * 요청으로 들어온 RefreshToken이 저장된 값과 같은지 확인
+     * 마이그레이션 : 이전 방식(원문 저장)으로 저장된 값도 비교 가능 (JWT 원문은 '.'을 포함하고, 다이제스트는 포함하지 않음)
+     */
+    public boolean matches(Long memberId, String refreshToken) {
+        String stored = redisTemplate.opsForValue().get(key(memberId));
+        if (stored == null) return false;
+
+        String expected = stored.indexOf('.') >= 0 ? refreshToken : TokenDigest.digest(refreshToken);
+        return MessageDigest.isEqual(stored.getBytes(StandardCharsets.US_ASCII), expected.getBytes(StandardCharsets.US_ASCII));
+    }
+
+
+    /**
+     * RefreshToken 교체(rotation). 저장된 값이 기존 토큰과 같을 때만 새 토큰으로 교체
+     * @param ttl 새 토큰의 남은 만료시간 (세션 최대 시간에 걸리면 refresh-token-expiration-minutes보다 짧음)
+     * @return 응답으로 내려줄 RefreshToken. 교체했으면 newRefreshToken, 유예시간 안의 동시 재발급이면 먼저 교체한 요청의 새 토큰,
+     *         이미 다른 토큰으로 교체되었거나 만료/로그아웃된 경우 null
+     */
+    public String rotate(Long memberId, String oldRefreshToken, String newRefreshToken, Duration ttl) {
+        return redisTemplate.execute(ROTATE_SCRIPT, List.of(key(memberId), graceKey(memberId)),
+                rotateArgs(oldRefreshToken, newRefreshToken, ttl).toArray());
+    }
+
+
+    /**
+     * rotate의 논블로킹 버전 (reactive 스택용). 같은 Compare-And-Swap 스크립트를 사용하며, 교체도 유예도 아니면 빈 Mono
+     */
+    public Mono<String> rotateReactive(Long memberId, String oldRefreshToken, String newRefreshToken, Duration ttl) {
+        return reactiveRedisTemplate.execute(ROTATE_SCRIPT, List.of(key(memberId), graceKey(memberId)),
+                        rotateArgs(oldRefreshToken, newRefreshToken, ttl))
+                .next();
+    }
+
+
+    private List<String> rotateArgs(String oldRefreshToken, String newRefreshToken, Duration ttl) {
+        return List.of(TokenDigest.digest(oldRefreshToken), oldRefreshToken,
+                TokenDigest.digest(newRefreshToken), String.valueOf(ttl.toMillis()),
+                newRefreshToken, String.valueOf(reuseGrace.toMillis()));
+    }
+
+
+    /**
+     * 저장된 RefreshToken과 유예중인 토큰 삭제 (재사용 감지, 로그아웃, 회원 탈퇴/삭제, 권한/상태/비밀번호 변경 등)
+     */
+    public void revoke(Long memberId) {
+        redisTemplate.delete(List.of(key(memberId), graceKey(memberId)));
+    }
+
+
+    /**
+     * revoke의 논블로킹 버전 (reactive 스택용)
+     */
+    public Mono<Void> revokeReactive(Long memberId) {
+        return reactiveRedisTemplate.delete(key(memberId), graceKey(memberId)).then();
+    }
+
+
+    private AuthException writeFailed(Long memberId, String reason) {
+        writeFailureCounter.increment();
+        log.warn("Refresh token write failed for member {}: {}", memberId, reason);
+        return new AuthException(ExceptionCode.REFRESH_TOKEN_STORE_UNAVAILABLE, "Refresh token write failed: " + reason);
+    }
+
+
+    String key(Long memberId) {
+        return refreshPrefix + memberId;
+    }
+
+
+    private String graceKey(Long memberId) {
+        return key(memberId) + GRACE_KEY_SUFFIX;
+    }
+}
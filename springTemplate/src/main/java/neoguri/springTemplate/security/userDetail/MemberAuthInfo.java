@@ -0,0 +1,29 @@
+package neoguri.springTemplate.security.userDetail;
+
+import lombok.Getter;
+import neoguri.springTemplate.domain.member.entity.Member;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 로그인 인증에 필요한 회원 정보만 담아 캐싱하기 위한 클래스
+ * Redis 캐시 사용시에도 저장할 수 있도록 Serializable로 구현
+ */
+@Getter
+public class MemberAuthInfo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long memberId;
+    private final String email;
+    private final String password;
+    private final List<String> roles;
+
+    public MemberAuthInfo(Member member) {
+        this.memberId = member.getMemberId();
+        this.email = member.getEmail();
+        this.password = member.getPassword();
+        this.roles = member.getRoles() == null ? List.of() : List.copyOf(member.getRoles());
+    }
+}
@@ -0,0 +1,99 @@
+package neoguri.springTemplate.security.userDetail;
+
+import lombok.extern.slf4j.Slf4j;
+import neoguri.springTemplate.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+
+/**
+ * 회원 인증정보 캐시(memberDetails) 무효화 컴포넌트
+ *
+ * spring.cache.type이 caffeine(기본값)이면 캐시가 서버마다 따로 있으므로, 한 서버에서 비운 것만으로는 다른 서버가 만료(10분)까지
+ * 이전 비밀번호 해시/ROLE로 로그인을 처리한다. 그래서 로컬 캐시를 비운 뒤 email을 Redis pub/sub으로 발행하고,
+ * 메세지를 받은 서버도 자신의 캐시에서 제거한다. (MemberCacheSync와 같은 방식, 채널만 다름)
+ *
+ * 회원 정보 변경 커밋 후에 호출해야 함 (커밋 전에 비우면 다른 요청이 이전 값을 다시 캐싱할 수 있음)
+ * member-details-cache.redis-invalidation이 false면 발행/구독하지 않음 (단일 서버, 혹은 spring.cache.type=redis로 캐시를 공유하는 경우)
+ */
+@Slf4j
+@Component
+public class MemberDetailsCacheSync implements MessageListener {
+
+    static final String CHANNEL = "member-details-cache:channel";
+
+    private final String nodeId = UUID.randomUUID().toString();  // 자신이 발행한 메세지는 무시하기 위함
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean redisInvalidation;
+
+    public MemberDetailsCacheSync(CacheManager cacheManager,
+                                  StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${member-details-cache.redis-invalidation}") boolean redisInvalidation) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisInvalidation = redisInvalidation;
+    }
+
+
+    @PostConstruct
+    public void init() {
+        if (redisInvalidation) listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+
+    /**
+     * 로컬 캐시에서 회원 인증정보를 제거하고 다른 서버에도 알림
+     * @param email 캐시 key
+     */
+    public void evictAndPublish(String email) {
+        if (email == null) return;
+
+        evict(email);
+        publish(email);
+    }
+
+
+    /**
+     * 다른 서버에서 발행한 무효화 메세지 수신 ("nodeId:email")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');  // nodeId(UUID)에는 ':'이 없으므로 첫 번째 ':' 기준 (email에는 포함될 수 있음)
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) return;
+
+        evict(body.substring(separator + 1));
+    }
+
+
+    private void evict(String email) {
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER_DETAILS_CACHE);
+        if (cache != null) cache.evict(email);
+    }
+
+
+    private void publish(String email) {
+        if (!redisInvalidation) return;
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + email);
+        } catch (RuntimeException e) {  // 발행 실패시 다른 서버는 캐시 만료(spring.cache.caffeine.spec의 expireAfterWrite)까지 이전 값을 사용
+            log.warn("Member details cache invalidation publish failed: {}", e.getMessage());
+        }
+    }
+}
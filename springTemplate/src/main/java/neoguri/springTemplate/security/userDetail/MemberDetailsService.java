@@ -1,46 +1,94 @@
 package neoguri.springTemplate.security.userDetail;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import neoguri.springTemplate.config.CacheConfig;
 import neoguri.springTemplate.domain.member.entity.Member;
 import neoguri.springTemplate.domain.member.mvc.MemberRepository;
 import neoguri.springTemplate.exception.dto.BusinessLogicException;
 import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
 import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Collection;
 
 
 /**
  * UserDetailsService를 확장받았기 때문에, 메소드를 전부 Override해줘야 함.
+ * 로그인마다 DB를 조회하지 않도록 회원 인증정보를 memberDetails 캐시에 보관 (게스트 로그인 등 같은 계정의 반복 로그인 대응)
+ * 회원 정보 수정/탈퇴/삭제시 MemberService에서 커밋 후 캐시를 비워줌 (MemberDetailsCacheSync로 다른 서버에도 전파)
+ * UserDetailsPasswordService : 로그인 성공시 저장된 비밀번호 해시가 현재 설정(알고리즘, bcrypt strength)보다 약하면 새 해시로 교체
  */
+@Slf4j
 @RequiredArgsConstructor
 @Component
-public class MemberDetailsService implements UserDetailsService {
+public class MemberDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
     private final CustomAuthorityUtils customAuthorityUtils;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberDetailsCacheSync memberDetailsCacheSync;
 
     @Override
     public UserDetails loadUserByUsername (String username) throws UsernameNotFoundException {
-        Member findMember = memberRepository.findByEmail(username)
-                .orElseThrow(()->new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER_DETAILS_CACHE);
+        MemberAuthInfo authInfo = cache.get(username, MemberAuthInfo.class);
+
+        if (authInfo == null) {
+            Member findMember = memberRepository.findByEmail(username)
+                    .orElseThrow(()->new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
+            authInfo = new MemberAuthInfo(findMember);
+            cache.put(username, authInfo);
+        }
+
+        return new MemberDetails(authInfo);
+    }
+
+
+    /**
+     * DaoAuthenticationProvider가 로그인 성공 후 PasswordEncoder.upgradeEncoding()이 true일 때 호출
+     * 커밋 후에 캐시를 비워야 다른 요청이 커밋 전의 이전 해시를 다시 캐싱하지 않음 (MemberService.updateWithRetry와 같은 방식)
+     * 동시 수정(@Version)과 겹치면 교체하지 않고 로그인만 진행 (다음 로그인시 다시 시도)
+     * @param newPassword 현재 설정으로 다시 해싱한 비밀번호
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        MemberAuthInfo authInfo;
+        try {
+            authInfo = transactionTemplate.execute(status -> {
+                Member findMember = memberRepository.findByEmail(user.getUsername())
+                        .orElseThrow(()->new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
+                findMember.modifyPassword(newPassword);
+                return new MemberAuthInfo(findMember);
+            });
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Password rehash skipped for {}: concurrent update", user.getUsername());
+            return user;
+        }
 
-        return new MemberDetails(findMember);
+        memberDetailsCacheSync.evictAndPublish(user.getUsername());
+        return new MemberDetails(authInfo);
     }
 
 
     private final class MemberDetails extends Member implements UserDetails {
 
-        MemberDetails(Member member) {
-            setMemberId(member.getMemberId());
-            setEmail(member.getEmail());
-            setPassword(member.getPassword());
-            setRoles(member.getRoles());
+        MemberDetails(MemberAuthInfo authInfo) {
+            setMemberId(authInfo.getMemberId());
+            setEmail(authInfo.getEmail());
+            setPassword(authInfo.getPassword());
+            setRoles(new ArrayList<>(authInfo.getRoles()));
         }
 
         @Override
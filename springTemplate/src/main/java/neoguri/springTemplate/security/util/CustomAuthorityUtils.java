@@ -1,21 +1,48 @@
 package neoguri.springTemplate.security.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Component
 public class CustomAuthorityUtils {
 
-    private final List<GrantedAuthority> ADMIN_ROLES = AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_USER");
-    private final List<GrantedAuthority> USER_ROLES = AuthorityUtils.createAuthorityList("ROLE_USER");
+    /**
+     * 알 수 없는 ROLE이 섞인 조합의 권한 목록 캐시 최대 크기. 넘으면 Caffeine 정책으로 오래된 조합부터 제거
+     */
+    private static final int MAX_CUSTOM_ROLE_SETS = 256;
+
     private final List<String> ADMIN_ROLES_STRING = List.of("ADMIN", "USER");
     private final List<String> USER_ROLES_STRING = List.of("USER");
 
+    /**
+     * 비트마스크 순서 (1 << index). TokenClaims의 ROLE 비트마스크와 같은 순서
+     */
+    private final List<String> KNOWN_ROLES = ADMIN_ROLES_STRING;
+
+    /**
+     * 비트마스크 -> 권한 목록(불변). 알려진 ROLE만으로 된 조합은 순서/중복에 상관없이 여기서 바로 꺼냄 (조회시 객체 생성 없음)
+     */
+    private final List<GrantedAuthority>[] authoritiesByMask = createAuthoritiesByMask();
+
+    private final List<GrantedAuthority> ADMIN_ROLES = authoritiesByMask[0b11];
+    private final List<GrantedAuthority> USER_ROLES = authoritiesByMask[0b10];
+
+    /**
+     * 알 수 없는 ROLE이 섞인 조합 -> 권한 목록(불변) 캐시. 키는 정렬/중복 제거한 ROLE 목록이라 순서가 달라도 같은 인스턴스를 공유
+     */
+    private final Cache<List<String>, List<GrantedAuthority>> customAuthorities = Caffeine.newBuilder()
+            .maximumSize(MAX_CUSTOM_ROLE_SETS)
+            .build();
+
 
     /**
      * 메모리 싱의 ROLE을 기반으로 권한 정보 생성.
@@ -30,14 +57,57 @@ public class CustomAuthorityUtils {
 
 
     /**
-     * DB에 저장된 ROLE을 기반으로 권한 정보 생성
-     * @param roles
-     * @return
+     * DB(혹은 토큰)에 저장된 ROLE을 기반으로 권한 정보 생성
+     * - 알려진 ROLE(ADMIN, USER)만으로 된 조합 : 비트마스크로 미리 만든 목록을 반환 (조회시 객체 생성 없음)
+     * - 그 외 : 정렬/중복 제거한 ROLE 목록을 키로 캐시에서 조회하고, 처음 보는 조합일 때만 생성
+     * @param roles ROLE 목록 (순서/중복은 무시)
+     * @return 불변 권한 목록
      */
     public List<GrantedAuthority> createAuthorities (List<String> roles) {
+        if (roles == null || roles.isEmpty()) return AuthorityUtils.NO_AUTHORITIES;
+
+        int mask = toMask(roles);
+        if (mask >= 0) return authoritiesByMask[mask];
+
+        List<String> key = roles.stream().filter(Objects::nonNull).sorted().distinct().collect(Collectors.toUnmodifiableList());
+        return customAuthorities.get(key, this::toAuthorities);
+    }
+
+
+    /**
+     * ROLE 목록을 비트마스크로 변환 (null은 무시). 알 수 없는 ROLE이 있으면 -1
+     * 인덱스로 순회해 iterator를 만들지 않음 (JPA/JSON 에서 오는 목록은 ArrayList 등 RandomAccess)
+     */
+    private int toMask(List<String> roles) {
+        int mask = 0;
+        for (int i = 0; i < roles.size(); i++) {
+            String role = roles.get(i);
+            if (role == null) continue;
+
+            int index = KNOWN_ROLES.indexOf(role);
+            if (index < 0) return -1;
+            mask |= 1 << index;
+        }
+        return mask;
+    }
+
+    private List<GrantedAuthority> toAuthorities(List<String> roles) {
         return roles.stream()
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GrantedAuthority>[] createAuthoritiesByMask() {
+        List<GrantedAuthority>[] byMask = new List[1 << KNOWN_ROLES.size()];
+        for (int mask = 0; mask < byMask.length; mask++) {
+            List<String> roles = new ArrayList<>();
+            for (int index = 0; index < KNOWN_ROLES.size(); index++) {
+                if ((mask & (1 << index)) != 0) roles.add(KNOWN_ROLES.get(index));
+            }
+            byMask[mask] = roles.isEmpty() ? AuthorityUtils.NO_AUTHORITIES : toAuthorities(roles);
+        }
+        return byMask;
     }
 
 
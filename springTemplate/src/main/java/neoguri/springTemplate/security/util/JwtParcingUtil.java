@@ -1,21 +1,23 @@
 package neoguri.springTemplate.security.util;
 
-import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import neoguri.springTemplate.exception.dto.BusinessLogicException;
 import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import neoguri.springTemplate.security.jwt.BearerToken;
 import neoguri.springTemplate.security.jwt.JwtTokenizer;
-import org.springframework.data.redis.core.RedisTemplate;
+import neoguri.springTemplate.security.jwt.TokenClaims;
+import neoguri.springTemplate.security.jwt.VerifiedClaimsHolder;
+import neoguri.springTemplate.security.redis.LogoutDenylist;
 import org.springframework.stereotype.Component;
 import javax.servlet.http.HttpServletRequest;
 import java.util.Date;
-import java.util.Map;
 
 
 /**
  * Header로 입력받은 Jwt의 Payloads 내 Claims를 파싱하여 Claims에 담겨있는 memberId(식별자) 혹은 email을 추출하는 유틸
  * 각 도메인 내 메소드에서 로그인 한 유저정보로 검증이 필요할 경우 DI를 통해 호출해서 사용할 수 있습니다.
- * feat. memberId, email은 JwtTokenizer를 통해 JWT 생성 시 Claims에 넣어주었기에 있습니다. 만약 JWT를 생성할 때 담아주지 않는다면 사용불가능 합니다.
+ * feat. memberId, email은 JwtTokenizer를 통해 JWT 생성 시 Claims에 넣어주었기에 있습니다. (토큰 형식별 클레임 이름은 TokenClaims 참고) 만약 JWT를 생성할 때 담아주지 않는다면 사용불가능 합니다.
  * 반대로, JWT 생성 당시 더 많은 정보를 넣어준다면, 해당 정보도 추출해 낼 수 있습니다.
  * feat. 필요시, payloads에 있는 subject로부터 파싱해서 정보를 추출하는 메소드도 구현 가능합니다.
  */
@@ -24,7 +26,7 @@ public class JwtParcingUtil {
 
     private final JwtTokenizer jwtTokenizer;
 
-    private final RedisTemplate redisTemplate;
+    private final LogoutDenylist logoutDenylist;
 
     /**
      * memberId(Entity 식별자)를 얻는 파싱 메소드
@@ -35,15 +37,14 @@ public class JwtParcingUtil {
         if(!isLoginUser(request)) throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED);
 
         try {
-            String jws = request.getHeader("Authorization").replace("Bearer ", "");
+            String jws = BearerToken.resolve(request);
 
             verifyLoginToken(jws);  // 로그아웃한 유저(Logout된 Authorization이 들어왔을 경우)에 대한 필터링 로직. 레디스 활용
 
-            String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-            Map<String, Object> claims = jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();
-            Object value = claims.get("memberId");
-            if( value == null ) return extractById(claims); // 만약 다른 테이블에 존재하는 Id값에 대한 조회 케이스가 필요한 경우 활성화
-            return Long.valueOf(String.valueOf(value));
+            TokenClaims tokenClaims = TokenClaims.from(getVerifiedClaims(request, jws));  // 토큰 형식(LEGACY/COMPACT)에 상관없이 subject(혹은 id)에서 추출
+            Long memberId = tokenClaims.getMemberId();
+            if( memberId == null ) throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED);
+            return memberId;
         }
 
         catch (Exception e) { throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED); }
@@ -59,15 +60,13 @@ public class JwtParcingUtil {
         if(!isLoginUser(request)) throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED);
 
         try {
-            String jws = request.getHeader("Authorization").replace("Bearer ", "");
+            String jws = BearerToken.resolve(request);
 
             verifyLoginToken(jws);  // 로그아웃한 유저(Logout된 Authorization이 들어왔을 경우)에 대한 필터링 로직. 레디스 활용
 
-            String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-            Map<String, Object> claims = jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();
-            Object value = claims.get("email");
-//            if ( value == null ) return extractByUsername(claims); // 만약 다른 테이블에 존재하는 email값에 대한 조회 케이스가 필요한 경우 활성화
-            return String.valueOf(String.valueOf(value));
+            String email = TokenClaims.from(getVerifiedClaims(request, jws)).getEmail();  // LEGACY : username, COMPACT : em
+            if( email == null ) throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED);
+            return email;
         }
 
         catch (Exception e) { throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED); }
@@ -95,8 +94,9 @@ public class JwtParcingUtil {
      * @return
      */
     public String extractAccessTokenFromJwt(HttpServletRequest request) {
-        try { return request.getHeader("Authorization").replace("Bearer ", ""); }
-        catch (Exception e) { throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED); }
+        String accessToken = BearerToken.resolve(request);
+        if (accessToken == null) throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED);
+        return accessToken;
     }
 
 
@@ -107,47 +107,56 @@ public class JwtParcingUtil {
      * @return
      */
     public Long getExpiration (String accessToken) {
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-        Date expiration = Jwts.parserBuilder().setSigningKey(base64EncodedSecretKey).build().parseClaimsJws(accessToken).getBody().getExpiration();
+        Date expiration = jwtTokenizer.getClaims(accessToken).getBody().getExpiration();
         Long now = new Date().getTime();
         return (expiration.getTime() - now);
     }
 
 
     /**
-     * extractMemberIdFromJwt 내 로직에서 사용
-     * 만약 Claims 안에 담겨있는 Id의 키값이 memberId가 아닌 경우. 즉, member테이블이 아닌 다른 테이블에 존재하는 객체를 조회하길 원하는 경우에 적용
-     * @param claims
-     * @return memberId (여기서 member는 실제 테이블에서 member는 아니다.
+     * 로그아웃 처리시 사용. 같은 요청에서 이미 검증된 Claims가 있으면 재파싱 없이 만료시간을 계산
+     * @param request
+     * @return 만료까지 남은 시간(ms)
      */
-    private Long extractById (Map<String, Object> claims) {
-        try {
-            Object value = claims.get("id");
-            Long memberId = Long.valueOf(String.valueOf(value));
-            return memberId;
-        }
-        catch (Exception e) { throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED); }
+    public Long getExpiration (HttpServletRequest request) {
+        String accessToken = extractAccessTokenFromJwt(request);
+        Date expiration = getVerifiedClaims(request, accessToken).getExpiration();
+        Long now = new Date().getTime();
+        return (expiration.getTime() - now);
     }
 
 
     /**
-     * extractEmailFromJwt 내 로직에서 사용
-     * 만약 Claims 안에 담겨있는 email의 키값이 member의 email이 아닌 경우. 즉, member 테이블이 아닌 다른 테이블에 존재하는 객체를 조회하길 원하는 경우에 적용
-     * @param claims
-     * @return email
+     * 요청 단위로 검증된 Claims를 얻는 메소드
+     * JwtVerificationFilter에서 이미 검증한 경우 그 결과를 그대로 사용하고, 없는 경우에만 검증 후 요청에 저장
+     * @param request
+     * @param jws
+     * @return 검증된 Claims
      */
-    private String extractByUsername (Map<String, Object> claims) {
-        try {
-            Object value = claims.get("username");
-            String email = String.valueOf(String.valueOf(value));
-            return email;
-        }
-        catch (Exception e) { throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED); }
+    private Claims getVerifiedClaims (HttpServletRequest request, String jws) {
+        Claims claims = VerifiedClaimsHolder.get(request, jws);
+        if (claims != null) return claims;
+
+        claims = jwtTokenizer.getVerifiedClaims(jws);
+        VerifiedClaimsHolder.set(request, jws, claims);
+        return claims;
     }
 
+
+    /**
+     * 로그아웃 처리 메소드. 현재 요청의 AccessToken을 남은 만료시간 동안 블랙리스트에 등록
+     * @param request
+     */
+    public void logout(HttpServletRequest request) {
+        logoutDenylist.logout(extractAccessTokenFromJwt(request), getExpiration(request));
+    }
+
+
+    /**
+     * 로그아웃된 토큰인지 확인. 로컬 Bloom Filter/캐시에서 판단이 안되는 경우에만 Redis를 1회 조회
+     */
     private void verifyLoginToken(String accessToken) {
-        if(redisTemplate.opsForValue().get(accessToken)!=null
-                && redisTemplate.opsForValue().get(accessToken).toString().equals("Logout")) {
+        if(logoutDenylist.isLoggedOut(accessToken)) {
             throw new BusinessLogicException(ExceptionCode.LOGIN_REQUIRED);
         }
     }
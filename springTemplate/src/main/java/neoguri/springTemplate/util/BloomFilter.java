@@ -0,0 +1,69 @@
+package neoguri.springTemplate.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * 스레드 안전한 간단한 Bloom Filter 구현체
+ * "확실히 없음" 또는 "있을 수도 있음"만 판단하며, 없는 값을 있다고 할 확률(false positive)은 생성시 지정한 비율 이하로 유지된다.
+ * 삭제는 지원하지 않으므로, 오래된 값을 비우려면 새 필터를 만들어 교체해야 한다.
+ *
+ * 입력값은 SHA-256 등 이미 고르게 분포된 해시(최소 16byte)를 받으며, 앞 16byte로 double hashing을 수행한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    /**
+     * @param expectedInsertions 예상 입력 개수
+     * @param falsePositiveRate 목표 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) (-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) >>> 6);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+
+    /**
+     * @param hash 고르게 분포된 16byte 이상의 해시값
+     */
+    public void put(byte[] hash) {
+        long h1 = toLong(hash, 0);
+        long h2 = toLong(hash, 8);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            bits.getAndAccumulate((int) (index >>> 6), 1L << index, (current, mask) -> current | mask);
+        }
+    }
+
+
+    /**
+     * @param hash 고르게 분포된 16byte 이상의 해시값
+     * @return false면 확실히 없음, true면 있을 수도 있음
+     */
+    public boolean mightContain(byte[] hash) {
+        long h1 = toLong(hash, 0);
+        long h2 = toLong(hash, 8);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,111 @@
+package neoguri.springTemplate.domain.member.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * DB는 이메일 Set으로 흉내낸 JdbcTemplate을 사용 (SELECT 시작 시점에 커밋된 이메일만 읽음)
+ */
+class MemberEmailFilterTest {
+
+    private final FakeJdbcTemplate jdbcTemplate = new FakeJdbcTemplate();
+    private final MemberEmailFilter memberEmailFilter = new MemberEmailFilter(jdbcTemplate, true, 100_000, 0.01);
+
+
+    @Test
+    void 재생성_전에는_항상_있을_수도_있음() {
+        assertThat(memberEmailFilter.mightExist("new@test.com")).isTrue();
+    }
+
+    @Test
+    void 재생성하면_DB의_이메일만_있을_수도_있음() {
+        jdbcTemplate.emails.add("member@test.com");
+
+        memberEmailFilter.rebuild();
+
+        assertThat(memberEmailFilter.mightExist("MEMBER@test.com")).isTrue();
+        assertThat(memberEmailFilter.mightExist("new@test.com")).isFalse();
+    }
+
+    @Test
+    void 재생성_중에_가입한_이메일도_새_필터에_반영() {
+        memberEmailFilter.rebuild();
+        jdbcTemplate.duringQuery = () -> memberEmailFilter.put("during@test.com");  // SELECT 이후 커밋된 가입
+
+        memberEmailFilter.rebuild();
+
+        assertThat(memberEmailFilter.mightExist("during@test.com")).isTrue();
+    }
+
+    @Test
+    void 재생성과_가입이_동시에_일어나도_가입한_이메일을_놓치지_않음() throws Exception {
+        memberEmailFilter.rebuild();
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        AtomicBoolean signingUp = new AtomicBoolean(true);
+        Set<String> missed = ConcurrentHashMap.newKeySet();  // 가입 직후 중복 확인에서 없다고 판단된 이메일
+        List<Future<?>> signups = new ArrayList<>();
+        try {
+            Future<?> rebuilds = executor.submit(() -> {
+                while (signingUp.get()) memberEmailFilter.rebuild();
+            });
+            for (int thread = 0; thread < 4; thread++) {
+                int threadId = thread;
+                signups.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        String email = "member" + threadId + "-" + i + "@test.com";
+                        jdbcTemplate.emails.add(email);  // 커밋
+                        memberEmailFilter.put(email);
+                        if (!memberEmailFilter.mightExist(email)) missed.add(email);
+                    }
+                }));
+            }
+            for (Future<?> signup : signups) signup.get(30, TimeUnit.SECONDS);
+            signingUp.set(false);
+            rebuilds.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(missed).isEmpty();
+        assertThat(jdbcTemplate.emails).allMatch(memberEmailFilter::mightExist);
+    }
+
+
+    private static final class FakeJdbcTemplate extends JdbcTemplate {
+
+        private final Set<String> emails = ConcurrentHashMap.newKeySet();
+        private volatile Runnable duringQuery = () -> {};
+
+        @Override
+        public void query(PreparedStatementCreator psc, RowCallbackHandler rch) {
+            Iterator<String> committed = new ArrayList<>(emails).iterator();
+            duringQuery.run();
+            try {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString(1)).thenAnswer(invocation -> committed.next());
+                while (committed.hasNext()) rch.processRow(rs);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package neoguri.springTemplate.domain.member.dto;
+
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberCursorTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, Long.MAX_VALUE})
+    void 인코딩후_디코딩하면_같은_memberId(long memberId) {
+        String cursor = MemberCursor.encode(memberId);
+
+        assertThat(cursor).doesNotContain("=", "+", "/");  // 쿼리 파라미터에 그대로 사용 가능
+        assertThat(MemberCursor.decode(cursor)).isEqualTo(memberId);
+    }
+
+    @Test
+    void 커서가_없으면_첫_페이지() {
+        assertThat(MemberCursor.decode(null)).isNull();
+        assertThat(MemberCursor.decode("")).isNull();
+        assertThat(MemberCursor.decode("  ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bTE6", "bTE6YWJj", "bTI6MQ"})  // Base64 오류, "m1:", "m1:abc", "m2:1"
+    void 잘못된_커서는_INVALID_CURSOR(String cursor) {
+        assertThatThrownBy(() -> MemberCursor.decode(cursor))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.INVALID_CURSOR);
+    }
+
+    @Test
+    void 접두어가_없는_숫자는_INVALID_CURSOR() {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> MemberCursor.decode(cursor))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.INVALID_CURSOR);
+    }
+}
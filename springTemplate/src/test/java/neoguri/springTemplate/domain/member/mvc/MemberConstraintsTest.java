@@ -0,0 +1,80 @@
+package neoguri.springTemplate.domain.member.mvc;
+
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예외 메세지는 각 드라이버가 실제로 만드는 형식 (H2 2.1, MySQL Connector/J 8)
+ */
+class MemberConstraintsTest {
+
+    private static final String H2_EMAIL_MESSAGE = "Unique index or primary key violation: "
+            + "\"PUBLIC.UK_MEMBER_EMAIL_INDEX_8 ON PUBLIC.MEMBER(EMAIL NULLS FIRST) VALUES ( /* 1 */ 'a@test.com' )\"; SQL statement:\n"
+            + "insert into Member (...) values (...) [23505-214]";
+    private static final String H2_NICKNAME_MESSAGE = "Unique index or primary key violation: "
+            + "\"PUBLIC.UK_MEMBER_NICKNAME_INDEX_C ON PUBLIC.MEMBER(NICKNAME NULLS FIRST) VALUES ( /* 1 */ 'a' )\"; SQL statement:\n"
+            + "insert into Member (...) values (...) [23505-214]";
+    private static final String MYSQL_EMAIL_MESSAGE = "Duplicate entry 'a@test.com' for key 'Member.uk_member_email'";
+    private static final String MYSQL_NICKNAME_MESSAGE = "Duplicate entry 'a' for key 'Member.uk_member_nickname'";
+
+
+    @Test
+    void H2_이메일_중복() {
+        assertTranslated(hibernate(H2_EMAIL_MESSAGE, "23505", "PUBLIC.UK_MEMBER_EMAIL_INDEX_8"), ExceptionCode.EMAIL_EXIST);
+    }
+
+    @Test
+    void H2_닉네임_중복() {
+        assertTranslated(hibernate(H2_NICKNAME_MESSAGE, "23505", "PUBLIC.UK_MEMBER_NICKNAME_INDEX_C"), ExceptionCode.NICKNAME_EXIST);
+    }
+
+    @Test
+    void MySQL_이메일_중복() {
+        assertTranslated(hibernate(MYSQL_EMAIL_MESSAGE, "23000", "Member.uk_member_email"), ExceptionCode.EMAIL_EXIST);
+    }
+
+    @Test
+    void MySQL_닉네임_중복() {
+        assertTranslated(hibernate(MYSQL_NICKNAME_MESSAGE, "23000", null), ExceptionCode.NICKNAME_EXIST);  // 제약조건 이름 추출 실패시 메세지로 판단
+    }
+
+    @Test
+    void JdbcTemplate_일괄등록_중복() {
+        DuplicateKeyException e = new DuplicateKeyException("batch insert failed",
+                new SQLIntegrityConstraintViolationException(MYSQL_EMAIL_MESSAGE, "23000", 1062));
+
+        assertTranslated(e, ExceptionCode.EMAIL_EXIST);
+    }
+
+    @Test
+    void 회원_유니크_인덱스가_아니면_그대로() {
+        DataIntegrityViolationException e = hibernate("NULL not allowed for column \"EMAIL\"", "23502", null);
+
+        assertThat(MemberConstraints.translate(e)).isSameAs(e);
+    }
+
+
+    /**
+     * JPA 저장시 Spring이 변환한 예외 형태 (DataIntegrityViolationException -> Hibernate ConstraintViolationException -> SQLException)
+     */
+    private static DataIntegrityViolationException hibernate(String message, String sqlState, String constraintName) {
+        SQLIntegrityConstraintViolationException sqlException = new SQLIntegrityConstraintViolationException(message, sqlState);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
+
+    private static void assertTranslated(DataIntegrityViolationException e, ExceptionCode expected) {
+        RuntimeException translated = MemberConstraints.translate(e);
+
+        assertThat(translated).isInstanceOf(BusinessLogicException.class);
+        assertThat(((BusinessLogicException) translated).getExceptionCode()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,25 @@
+package neoguri.springTemplate.domain.member.mvc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberControllerTest {
+
+    @Test
+    void Accept_Encoding에_gzip이_있으면_압축() {
+        assertThat(MemberController.acceptsGzip("gzip")).isTrue();
+        assertThat(MemberController.acceptsGzip("br, GZIP")).isTrue();
+        assertThat(MemberController.acceptsGzip("deflate, gzip;q=0.5")).isTrue();
+        assertThat(MemberController.acceptsGzip("x-gzip")).isTrue();
+    }
+
+    @Test
+    void gzip이_없거나_q가_0이면_압축하지_않음() {
+        assertThat(MemberController.acceptsGzip(null)).isFalse();
+        assertThat(MemberController.acceptsGzip("identity")).isFalse();
+        assertThat(MemberController.acceptsGzip("gzip;q=0, br")).isFalse();
+        assertThat(MemberController.acceptsGzip("gzip; q=0.000")).isFalse();
+        assertThat(MemberController.acceptsGzip("gzipped")).isFalse();
+    }
+}
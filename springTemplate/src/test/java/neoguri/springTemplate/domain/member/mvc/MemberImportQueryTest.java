@@ -0,0 +1,81 @@
+package neoguri.springTemplate.domain.member.mvc;
+
+import neoguri.springTemplate.domain.member.cache.MemberCacheSync;
+import neoguri.springTemplate.domain.member.cache.MemberEmailFilter;
+import neoguri.springTemplate.util.StatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 등록이 실행하는 SQL 수 (H2, p6spy로 측정). 행 수가 아니라 청크(CHUNK_SIZE) 수에 비례해야 함
+ * 청크마다 이메일 IN 조회, 닉네임 IN 조회, Member 배치 INSERT, memberId IN 조회, Member_roles 배치 INSERT = 5회
+ * (배치는 executeBatch 1회. MySQL은 rewriteBatchedStatements로 다중 VALUES 문 하나로 전송)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MemberImportService.class, StatementCounter.class})
+class MemberImportQueryTest {
+
+    private static final String BCRYPT = "{bcrypt}$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+    private static final int STATEMENTS_PER_CHUNK = 5;
+
+    @Autowired
+    private MemberImportService memberImportService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @MockBean
+    private MemberCacheSync memberCacheSync;
+    @MockBean
+    private MemberEmailFilter memberEmailFilter;
+
+
+    @Test
+    void 청크_하나는_행_수와_상관없이_5회() throws Exception {
+        importMembers(MemberImportService.CHUNK_SIZE);
+
+        assertThat(statementCounter.count()).isEqualTo(STATEMENTS_PER_CHUNK);
+        assertThat(statementCounter.count("insert")).isEqualTo(2);
+        assertImported(MemberImportService.CHUNK_SIZE);
+    }
+
+    @Test
+    void 청크가_늘어난_만큼만_증가() throws Exception {
+        importMembers(MemberImportService.CHUNK_SIZE + 1);
+
+        assertThat(statementCounter.count()).isEqualTo(2 * STATEMENTS_PER_CHUNK);
+        assertThat(statementCounter.count("insert")).isEqualTo(4);
+        assertImported(MemberImportService.CHUNK_SIZE + 1);
+    }
+
+
+    private void importMembers(int rows) throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            body.append("{\"email\":\"member").append(i).append("@test.com\",\"password\":\"").append(BCRYPT)
+                    .append("\",\"nickname\":\"member").append(i).append("\"}\n");
+        }
+
+        statementCounter.reset();
+        memberImportService.importMembers(new BufferedReader(new StringReader(body.toString())),
+                MemberImportService.Format.NDJSON, new ByteArrayOutputStream());
+    }
+
+    private void assertImported(int rows) {
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Member", Long.class)).isEqualTo(rows);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Member_roles", Long.class)).isEqualTo(rows);
+    }
+}
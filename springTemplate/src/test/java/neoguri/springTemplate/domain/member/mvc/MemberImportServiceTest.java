@@ -0,0 +1,232 @@
+package neoguri.springTemplate.domain.member.mvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import neoguri.springTemplate.domain.member.cache.MemberCacheSync;
+import neoguri.springTemplate.domain.member.cache.MemberEmailFilter;
+import neoguri.springTemplate.domain.member.dto.MemberPostReqDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DB는 Map으로 흉내낸 NamedParameterJdbcTemplate을 사용 (트랜잭션 롤백시 이전 상태로 되돌림)
+ */
+class MemberImportServiceTest {
+
+    private static final String BCRYPT = "{bcrypt}$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final MemberCacheSync memberCacheSync = mock(MemberCacheSync.class);
+    private final MemberEmailFilter memberEmailFilter = mock(MemberEmailFilter.class);
+    private final MemberImportService memberImportService = new MemberImportService(jdbcTemplate, transactionTemplate, memberCacheSync, memberEmailFilter);
+
+    private Map<String, Long> members = new HashMap<>();  // email -> memberId
+    private Set<String> nicknames = new HashSet<>();
+    private final Map<String, Long> concurrentSignups = new HashMap<>();  // 중복 확인 후 INSERT 전에 다른 요청이 먼저 가입하는 이메일
+    private long nextMemberId = 1;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            Map<String, Long> memberSnapshot = new HashMap<>(members);
+            Set<String> nicknameSnapshot = new HashSet<>(nicknames);
+            try {
+                return ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null);
+            } catch (RuntimeException e) {  // 롤백
+                members = memberSnapshot;
+                nicknames = nicknameSnapshot;
+                members.putAll(concurrentSignups);  // 다른 요청의 가입은 이미 커밋됨
+                throw e;
+            }
+        });
+
+        doAnswer(invocation -> {
+            Collection<String> emails = (Collection<String>) ((Map<String, ?>) invocation.getArgument(1)).get("emails");
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (String email : emails) {
+                if (!members.containsKey(email)) continue;
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("email")).thenReturn(email);
+                when(rs.getLong("memberId")).thenReturn(members.get(email));
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), anyMap(), any(RowCallbackHandler.class));
+
+        when(jdbcTemplate.queryForList(anyString(), anyMap(), eq(String.class))).thenAnswer(invocation -> {
+            Collection<String> requested = (Collection<String>) ((Map<String, ?>) invocation.getArgument(1)).get("nicknames");
+            List<String> existing = new ArrayList<>();
+            for (String nickname : requested) if (nicknames.contains(nickname)) existing.add(nickname);
+            return existing;
+        });
+
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            SqlParameterSource[] params = invocation.getArgument(1);
+            if (!sql.startsWith("INSERT INTO Member (")) return new int[params.length];
+
+            members.putAll(concurrentSignups);
+            for (SqlParameterSource param : params) {
+                String email = (String) param.getValue("email");
+                String nickname = (String) param.getValue("nickname");
+                if (members.containsKey(email) || (nickname != null && nicknames.contains(nickname)))
+                    throw new DuplicateKeyException("Duplicate entry '" + email + "'");
+                members.put(email, nextMemberId++);
+                if (nickname != null) nicknames.add(nickname);
+            }
+            return new int[params.length];
+        });
+    }
+
+
+    @Test
+    void CSV_헤더와_빈줄을_포함한_물리적_행번호로_응답() throws IOException {
+        String csv = "email,password,nickname,profile\n"
+                + "a@test.com," + BCRYPT + ",에이,\n"
+                + "\n"
+                + "b@test.com," + BCRYPT + ",\"비, \"\"큰따옴표\"\"\",\n";
+
+        List<JsonNode> results = importMembers(csv, MemberImportService.Format.CSV);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).get("line").asLong()).isEqualTo(2);
+        assertThat(results.get(0).get("status").asText()).isEqualTo("CREATED");
+        assertThat(results.get(1).get("line").asLong()).isEqualTo(4);
+        assertThat(results.get(1).get("status").asText()).isEqualTo("CREATED");
+        assertThat(nicknames).contains("비, \"큰따옴표\"");
+    }
+
+    @Test
+    void 생성된_회원은_memberId를_응답하고_캐시를_비움() throws IOException {
+        List<JsonNode> results = importMembers(ndjson("a@test.com", BCRYPT, null), MemberImportService.Format.NDJSON);
+
+        assertThat(results.get(0).get("memberId").asLong()).isEqualTo(members.get("a@test.com"));
+        verify(memberEmailFilter).put("a@test.com");
+        verify(memberCacheSync).evictQueriesAndPublish();
+    }
+
+    @Test
+    void bcrypt_해시가_아닌_비밀번호는_INVALID() throws IOException {
+        String body = ndjson("noop@test.com", "{noop}password", null)
+                + ndjson("short@test.com", "{bcrypt}$2a$10$tooShort", null)
+                + ndjson("plain@test.com", "password", null)
+                + ndjson("ok@test.com", BCRYPT, null);
+
+        List<JsonNode> results = importMembers(body, MemberImportService.Format.NDJSON);
+
+        assertThat(results).extracting(result -> result.get("status").asText())
+                .containsExactly("INVALID", "INVALID", "INVALID", "CREATED");
+        assertThat(members).containsOnlyKeys("ok@test.com");
+    }
+
+    @Test
+    void 형식_오류와_이메일_누락은_INVALID() throws IOException {
+        String body = "{not json\n" + ndjson(null, BCRYPT, null);
+
+        List<JsonNode> results = importMembers(body, MemberImportService.Format.NDJSON);
+
+        assertThat(results).extracting(result -> result.get("status").asText()).containsExactly("INVALID", "INVALID");
+        assertThat(results).extracting(result -> result.get("message").asText()).containsExactly("형식 오류", "이메일 누락");
+        verify(memberCacheSync, never()).evictQueriesAndPublish();
+    }
+
+    @Test
+    void 이미_가입했거나_요청안에서_중복된_행은_DUPLICATE() throws IOException {
+        members.put("exist@test.com", nextMemberId++);
+        nicknames.add("사용중");
+        String body = ndjson("exist@test.com", BCRYPT, null)
+                + ndjson("new@test.com", BCRYPT, "사용중")
+                + ndjson("twice@test.com", BCRYPT, null)
+                + ndjson("twice@test.com", BCRYPT, null);
+
+        List<JsonNode> results = importMembers(body, MemberImportService.Format.NDJSON);
+
+        assertThat(results).extracting(result -> result.get("status").asText())
+                .containsExactly("DUPLICATE", "DUPLICATE", "CREATED", "DUPLICATE");
+    }
+
+    @Test
+    void 동시_가입과_겹친_행만_DUPLICATE이고_나머지는_계속_처리() throws IOException {
+        concurrentSignups.put("race@test.com", 1000L);
+        StringBuilder body = new StringBuilder(ndjson("race@test.com", BCRYPT, null));
+        for (int i = 0; i < MemberImportService.CHUNK_SIZE + 1; i++) body.append(ndjson("member" + i + "@test.com", BCRYPT, null));
+
+        List<JsonNode> results = importMembers(body.toString(), MemberImportService.Format.NDJSON);
+
+        assertThat(results).hasSize(MemberImportService.CHUNK_SIZE + 2);
+        assertThat(results.get(0).get("status").asText()).isEqualTo("DUPLICATE");
+        assertThat(results.subList(1, results.size())).allMatch(result -> "CREATED".equals(result.get("status").asText()));
+        assertThat(members).containsKey("member" + MemberImportService.CHUNK_SIZE + "@test.com");  // 다음 청크도 처리됨
+    }
+
+    @Test
+    void CSV_큰따옴표_값_파싱() {
+        MemberPostReqDto dto = MemberImportService.parseCsv("a@test.com,\"pw,with,comma\",\"say \"\"hi\"\"\",");
+
+        assertThat(dto.getEmail()).isEqualTo("a@test.com");
+        assertThat(dto.getPassword()).isEqualTo("pw,with,comma");
+        assertThat(dto.getNickname()).isEqualTo("say \"hi\"");
+        assertThat(dto.getProfile()).isNull();
+    }
+
+    @Test
+    void CSV_닫히지_않은_큰따옴표는_오류() {
+        assertThatThrownBy(() -> MemberImportService.parseCsv("a@test.com,\"unterminated"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+
+    private List<JsonNode> importMembers(String body, MemberImportService.Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        memberImportService.importMembers(new BufferedReader(new StringReader(body)), format, out);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) results.add(OBJECT_MAPPER.readTree(line));
+        }
+        return results;
+    }
+
+    private static String ndjson(String email, String password, String nickname) throws IOException {
+        Map<String, String> row = new HashMap<>();
+        row.put("email", email);
+        row.put("password", password);
+        row.put("nickname", nickname);
+        return OBJECT_MAPPER.writeValueAsString(row) + "\n";
+    }
+}
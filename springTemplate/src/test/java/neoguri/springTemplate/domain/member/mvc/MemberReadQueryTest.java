@@ -0,0 +1,115 @@
+package neoguri.springTemplate.domain.member.mvc;
+
+import neoguri.springTemplate.config.HibernateCacheConfig;
+import neoguri.springTemplate.domain.member.cache.MemberCacheSync;
+import neoguri.springTemplate.domain.member.cache.MemberEmailFilter;
+import neoguri.springTemplate.domain.member.dto.MemberBatchResDto;
+import neoguri.springTemplate.domain.member.dto.MemberResDto;
+import neoguri.springTemplate.domain.member.entity.Member;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import neoguri.springTemplate.security.userDetail.MemberDetailsCacheSync;
+import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import neoguri.springTemplate.util.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 조회 API가 실행하는 SQL 수 (H2, p6spy로 측정). MemberResDto 프로젝션이라 roles(Member_roles) 조회가 없어야 함
+ * 개발자별 local 프로필(MySQL, data.sql) 대신 application.yml 기본 설정 + 내장 H2로 실행
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MemberService.class, CustomAuthorityUtils.class, HibernateCacheConfig.class, StatementCounter.class})
+class MemberReadQueryTest {
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @MockBean
+    private MemberDetailsCacheSync memberDetailsCacheSync;
+    @MockBean
+    private MemberCacheSync memberCacheSync;
+    @MockBean
+    private MemberEmailFilter memberEmailFilter;
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Member member = Member.builder()
+                    .email("member" + i + "@test.com")
+                    .nickname("member" + i)
+                    .memberStatus(Member.MemberStatus.MEMBER_ACTIVE)
+                    .build();
+            member.setRoles(new ArrayList<>(List.of("USER")));
+            memberIds.add(entityManager.persistAndGetId(member, Long.class));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+    }
+
+
+    @Test
+    void 단일_조회는_SELECT_1회() {
+        MemberResDto member = memberService.findMember(memberIds.get(0));
+
+        assertThat(member.getEmail()).isEqualTo("member0@test.com");
+        assertSelectsOnlyMember(1);
+    }
+
+    @Test
+    void 일괄_조회는_중복_id와_상관없이_SELECT_1회() {
+        List<MemberBatchResDto> members = memberService.findMembersByIds(
+                List.of(memberIds.get(0), memberIds.get(1), memberIds.get(0), memberIds.get(2)));
+
+        assertThat(members).allMatch(MemberBatchResDto::isFound);
+        assertSelectsOnlyMember(1);
+    }
+
+    @Test
+    void 페이지_조회는_목록과_COUNT_2회() {
+        Page<MemberResDto> page = memberService.findMembers(PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertSelectsOnlyMember(2);
+    }
+
+    @Test
+    void 커서_조회는_COUNT_없이_1회() {
+        Slice<MemberResDto> slice = memberService.findMembersAfter(memberIds.get(0), 1);
+
+        assertThat(slice.getContent()).extracting(MemberResDto::getMemberId).containsExactly(memberIds.get(1));
+        assertThat(slice.hasNext()).isTrue();
+        assertSelectsOnlyMember(1);
+    }
+
+
+    private void assertSelectsOnlyMember(int expected) {
+        assertThat(statementCounter.count()).as(statementCounter.statements().toString()).isEqualTo(expected);
+        assertThat(statementCounter.count("select")).isEqualTo(expected);
+        assertThat(statementCounter.statements()).noneMatch(sql -> sql.toLowerCase().contains("member_roles"));
+    }
+}
@@ -0,0 +1,116 @@
+package neoguri.springTemplate.domain.member.mvc;
+
+import neoguri.springTemplate.domain.member.cache.MemberCacheSync;
+import neoguri.springTemplate.domain.member.cache.MemberEmailFilter;
+import neoguri.springTemplate.domain.member.entity.Member;
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import neoguri.springTemplate.security.userDetail.MemberDetailsCacheSync;
+import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * updateWithRetry 동시 수정 충돌 재시도. 커밋시 버전 불일치는 TransactionTemplate이 콜백 실행 후 예외를 던지는 것으로 흉내냄
+ */
+class MemberServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final MemberDetailsCacheSync memberDetailsCacheSync = mock(MemberDetailsCacheSync.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final MemberCacheSync memberCacheSync = mock(MemberCacheSync.class);
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    private final MemberService memberService = new MemberService(memberRepository, memberDetailsCacheSync, transactionTemplate,
+            memberCacheSync, mock(MemberEmailFilter.class), refreshTokenStore, new CustomAuthorityUtils());
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final List<Member> loadedMembers = new ArrayList<>();  // 시도마다 새로 읽은 엔티티
+
+    @BeforeEach
+    void setUp() {
+        when(memberRepository.findById(MEMBER_ID)).thenAnswer(invocation -> {
+            Member member = Member.builder()
+                    .memberId(MEMBER_ID)
+                    .email("member@test.com")
+                    .nickname("before")
+                    .memberStatus(Member.MemberStatus.MEMBER_ACTIVE)
+                    .build();
+            member.setRoles(new ArrayList<>(List.of("USER")));
+            loadedMembers.add(member);
+            return Optional.of(member);
+        });
+    }
+
+
+    @Test
+    void 버전_충돌시_최신_상태를_다시_읽어_재시도() {
+        conflictOnFirstCommits(1);
+        Member patch = Member.builder().nickname("after").build();
+
+        memberService.modifyMember(patch, MEMBER_ID);
+
+        assertThat(attempts).hasValue(2);
+        assertThat(loadedMembers).hasSize(2);
+        assertThat(loadedMembers.get(1).getNickname()).isEqualTo("after");
+        verify(memberCacheSync).evict(MEMBER_ID);  // 이전 버전이 남아있을 수 있는 2차 캐시 제거 후 재시도
+        verify(memberDetailsCacheSync, times(1)).evictAndPublish("member@test.com");  // 커밋 성공 후 한 번만
+        verify(refreshTokenStore, never()).revoke(any());  // 닉네임 변경은 인증정보 변경이 아님
+    }
+
+    @Test
+    void 최대_시도횟수까지_충돌하면_MEMBER_UPDATE_CONFLICT() {
+        conflictOnFirstCommits(MemberService.MAX_UPDATE_ATTEMPTS);
+        Member patch = Member.builder().nickname("after").build();
+
+        assertThatThrownBy(() -> memberService.modifyMember(patch, MEMBER_ID))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.MEMBER_UPDATE_CONFLICT);
+
+        assertThat(attempts).hasValue(MemberService.MAX_UPDATE_ATTEMPTS);
+        verify(memberCacheSync, times(MemberService.MAX_UPDATE_ATTEMPTS - 1)).evict(MEMBER_ID);
+        verify(memberDetailsCacheSync, never()).evictAndPublish(anyString());
+    }
+
+    @Test
+    void 충돌후_재시도에서_탈퇴가_커밋되면_RefreshToken_삭제() {
+        conflictOnFirstCommits(1);
+
+        memberService.withdrawMember(MEMBER_ID);
+
+        assertThat(loadedMembers.get(1).getMemberStatus()).isEqualTo(Member.MemberStatus.MEMBER_QUIT);
+        verify(refreshTokenStore, times(1)).revoke(MEMBER_ID);
+    }
+
+
+    /**
+     * 처음 conflicts번의 트랜잭션은 콜백 실행 후 커밋 단계에서 버전 불일치로 실패
+     */
+    private void conflictOnFirstCommits(int conflicts) {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            Object result = ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null);
+            if (attempts.incrementAndGet() <= conflicts) throw new ObjectOptimisticLockingFailureException(Member.class, MEMBER_ID);
+            return result;
+        });
+    }
+}
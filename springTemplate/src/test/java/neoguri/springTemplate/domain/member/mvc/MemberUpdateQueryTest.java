@@ -0,0 +1,103 @@
+package neoguri.springTemplate.domain.member.mvc;
+
+import neoguri.springTemplate.config.HibernateCacheConfig;
+import neoguri.springTemplate.domain.member.cache.MemberCacheSync;
+import neoguri.springTemplate.domain.member.cache.MemberEmailFilter;
+import neoguri.springTemplate.domain.member.entity.Member;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import neoguri.springTemplate.security.userDetail.MemberDetailsCacheSync;
+import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import neoguri.springTemplate.util.StatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 정보 수정이 실행하는 UPDATE (H2, p6spy로 측정). 변경감지(@DynamicUpdate)로 바뀐 컬럼 + version(+ 감사 수정시각)만 UPDATE 1회
+ * MemberService가 TransactionTemplate으로 직접 커밋해야 하므로 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MemberService.class, CustomAuthorityUtils.class, HibernateCacheConfig.class, StatementCounter.class})
+class MemberUpdateQueryTest {
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @MockBean
+    private MemberDetailsCacheSync memberDetailsCacheSync;
+    @MockBean
+    private MemberCacheSync memberCacheSync;
+    @MockBean
+    private MemberEmailFilter memberEmailFilter;
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .email("member@test.com")
+                .nickname("before")
+                .profile("https://profile/before.png")
+                .memberStatus(Member.MemberStatus.MEMBER_ACTIVE)
+                .build();
+        member.setRoles(new ArrayList<>(List.of("USER")));
+        memberId = memberRepository.save(member).getMemberId();
+        statementCounter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+
+    @Test
+    void 닉네임만_바꾸면_다른_회원_컬럼없이_UPDATE_1회() {
+        memberService.modifyMember(Member.builder().nickname("after").build(), memberId);
+
+        assertThat(statementCounter.count("update")).isEqualTo(1);
+        assertThat(statementCounter.count("insert") + statementCounter.count("delete")).isZero();  // roles 컬렉션은 다시 쓰지 않음
+
+        String update = updateStatement();
+        assertThat(update).contains("nickname", "version");
+        assertThat(update).doesNotContain("email", "profile", "password", "memberstatus");
+        assertThat(memberRepository.findById(memberId)).get().extracting(Member::getNickname).isEqualTo("after");
+    }
+
+    @Test
+    void 값이_같으면_UPDATE_없음() {
+        memberService.modifyMember(Member.builder().nickname("before").build(), memberId);
+
+        assertThat(statementCounter.count("update")).isZero();
+    }
+
+
+    private String updateStatement() {
+        return statementCounter.statements().stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("update"))
+                .findFirst()
+                .map(sql -> sql.substring(0, sql.toLowerCase(Locale.ROOT).indexOf(" where ")).toLowerCase(Locale.ROOT))  // SET 절만
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,126 @@
+package neoguri.springTemplate.security.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import neoguri.springTemplate.domain.member.mvc.MemberController;
+import neoguri.springTemplate.domain.member.mvc.MemberExportService;
+import neoguri.springTemplate.domain.member.mvc.MemberImportService;
+import neoguri.springTemplate.domain.member.mvc.MemberService;
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import neoguri.springTemplate.security.filter.JwtVerificationFilter;
+import neoguri.springTemplate.security.jwt.JwtTokenizer;
+import neoguri.springTemplate.security.redis.LogoutDenylist;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ADMIN 전용 엔드포인트(/member/import, /member/export) 인가 확인. 토큰 검증(JwtTokenizer)과 로그아웃 여부(LogoutDenylist)는 mock
+ * 인증이 없으면 CustomAuthenticationEntryPoint가 401을 쓴 뒤 BusinessLogicException(NON_ACCESS_MODIFY)을 던지므로 예외로 확인
+ */
+@WebMvcTest(MemberController.class)
+@Import({SecurityConfiguration.class, JwtVerificationFilter.class, CustomAuthorityUtils.class})
+class SecurityConfigurationTest {
+
+    private static final String ADMIN_TOKEN = "admin-token";
+    private static final String USER_TOKEN = "user-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JwtTokenizer jwtTokenizer;
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+    @MockBean
+    private LogoutDenylist logoutDenylist;
+    @MockBean
+    private MemberService memberService;
+    @MockBean
+    private MemberImportService memberImportService;
+    @MockBean
+    private MemberExportService memberExportService;
+
+
+    @Test
+    void 로그아웃된_ADMIN_토큰으로_일괄등록하면_401() throws Exception {
+        givenToken(ADMIN_TOKEN, 1);
+        when(logoutDenylist.isLoggedOut(ADMIN_TOKEN)).thenReturn(true);
+
+        assertUnauthorized(importRequest(ADMIN_TOKEN));
+    }
+
+    @Test
+    void 로그아웃된_ADMIN_토큰으로_내보내기하면_401() throws Exception {
+        givenToken(ADMIN_TOKEN, 1);
+        when(logoutDenylist.isLoggedOut(ADMIN_TOKEN)).thenReturn(true);
+
+        assertUnauthorized(get("/member/export").header(HttpHeaders.AUTHORIZATION, "Bearer " + ADMIN_TOKEN));
+        verify(memberExportService, never()).asyncExport(any(Long.class), any());
+    }
+
+    @Test
+    void 토큰_없이_일괄등록하면_401() throws Exception {
+        assertUnauthorized(post("/member/import").contentType("application/x-ndjson").content("{}"));
+    }
+
+    @Test
+    void USER_토큰으로_일괄등록하면_403() throws Exception {
+        givenToken(USER_TOKEN, 2);
+
+        mockMvc.perform(importRequest(USER_TOKEN)).andExpect(status().isForbidden());
+        verify(memberImportService, never()).importMembers(any(), any(), any());
+    }
+
+    @Test
+    void ADMIN_토큰으로_일괄등록하면_통과() throws Exception {
+        givenToken(ADMIN_TOKEN, 1);
+
+        mockMvc.perform(importRequest(ADMIN_TOKEN)).andExpect(status().isOk());
+        verify(memberImportService).importMembers(any(), any(), any());
+    }
+
+
+    /**
+     * COMPACT 형식 Claims (rl : ROLE 비트마스크. 1 = ADMIN, 2 = USER)
+     */
+    private void givenToken(String token, int roleMask) {
+        Claims claims = Jwts.claims(Map.of("v", 2, "em", token + "@test.com", "rl", roleMask));
+        claims.setSubject("1");
+        when(jwtTokenizer.getVerifiedClaims(token)).thenReturn(claims);
+    }
+
+    private MockHttpServletRequestBuilder importRequest(String token) {
+        return post("/member/import")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType("application/x-ndjson")
+                .content("{\"email\":\"new@test.com\"}");
+    }
+
+    private void assertUnauthorized(MockHttpServletRequestBuilder request) throws Exception {
+        assertThatThrownBy(() -> mockMvc.perform(request))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(cause -> ((BusinessLogicException) cause).getExceptionCode())
+                .isEqualTo(ExceptionCode.NON_ACCESS_MODIFY);
+        verify(memberImportService, never()).importMembers(any(), any(), any());
+    }
+}
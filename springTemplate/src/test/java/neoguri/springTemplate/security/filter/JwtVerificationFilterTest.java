@@ -0,0 +1,108 @@
+package neoguri.springTemplate.security.filter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import neoguri.springTemplate.security.jwt.JwtTokenizer;
+import neoguri.springTemplate.security.redis.LogoutDenylist;
+import neoguri.springTemplate.security.util.CustomAuthorityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다음 필터는 결과와 상관없이 정확히 한 번 호출되어야 함
+ */
+class JwtVerificationFilterTest {
+
+    private static final String TOKEN = "access-token";
+
+    private final JwtTokenizer jwtTokenizer = mock(JwtTokenizer.class);
+    private final LogoutDenylist logoutDenylist = mock(LogoutDenylist.class);
+    private final JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, new CustomAuthorityUtils(), logoutDenylist);
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final FilterChain filterChain = spy(new MockFilterChain());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+
+    @Test
+    void 토큰이_없으면_검증없이_다음_필터로() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        jwtVerificationFilter.doFilter(request, response, filterChain);
+
+        verify(filterChain, times(1)).doFilter(any(), any());
+        verify(jwtTokenizer, never()).getVerifiedClaims(anyString());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void 유효한_토큰이면_인증_후_다음_필터_한번() throws Exception {
+        Claims claims = Jwts.claims(Map.of("v", 2, "em", "member@test.com", "rl", 2));
+        claims.setSubject("1");
+        when(jwtTokenizer.getVerifiedClaims(TOKEN)).thenReturn(claims);
+
+        jwtVerificationFilter.doFilter(bearerRequest(), response, filterChain);
+
+        verify(filterChain, times(1)).doFilter(any(), any());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isEqualTo("member@test.com");
+        assertThat(AuthorityUtils.authorityListToSet(authentication.getAuthorities())).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void 로그아웃된_토큰이면_인증없이_다음_필터_한번() throws Exception {
+        Claims claims = Jwts.claims(Map.of("v", 2, "em", "member@test.com", "rl", 2));
+        claims.setSubject("1");
+        when(jwtTokenizer.getVerifiedClaims(TOKEN)).thenReturn(claims);
+        when(logoutDenylist.isLoggedOut(TOKEN)).thenReturn(true);
+
+        jwtVerificationFilter.doFilter(bearerRequest(), response, filterChain);
+
+        verify(filterChain, times(1)).doFilter(any(), any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void 검증에_실패하면_인증없이_원인을_넘기고_다음_필터_한번() throws Exception {
+        when(jwtTokenizer.getVerifiedClaims(TOKEN)).thenThrow(new SignatureException("bad signature"));
+        MockHttpServletRequest request = bearerRequest();
+
+        jwtVerificationFilter.doFilter(request, response, filterChain);
+
+        verify(filterChain, times(1)).doFilter(any(), any());
+        assertThat(request.getAttribute("Exception")).isInstanceOf(SignatureException.class);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+
+    private static MockHttpServletRequest bearerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN);
+        return request;
+    }
+}
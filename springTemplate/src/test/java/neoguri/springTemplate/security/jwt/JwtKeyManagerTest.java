@@ -0,0 +1,85 @@
+package neoguri.springTemplate.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyManagerTest {
+
+    private static final String SECRET = "jwt-key-manager-test-secret-0123456789";
+    private static final String NEXT_SECRET = "jwt-key-manager-test-next-secret-0123456789";
+
+    @Test
+    void kid를_설정하지_않으면_kid_없이_서명() {
+        JwtKeyManager keyManager = keyManager("", "");
+
+        String jws = sign(keyManager);
+
+        assertThat(parse(keyManager, jws).getHeader().getKeyId()).isNull();
+        assertThat(keyManager.getKeyRing().getVerificationKeys()).isEmpty();
+    }
+
+    @Test
+    void 설정한_kid로_서명() {
+        JwtKeyManager keyManager = keyManager("main", "");
+
+        Jws<Claims> parsed = parse(keyManager, sign(keyManager));
+
+        assertThat(parsed.getHeader().getKeyId()).isEqualTo("main");
+        assertThat(parsed.getBody().getSubject()).isEqualTo("1");
+    }
+
+    @Test
+    void 키_파일의_active를_바꾸면_새_키로_서명하고_이전_토큰도_검증(@TempDir Path dir) throws IOException {
+        Path keyRingFile = dir.resolve("jwt-keys.properties");
+        Files.writeString(keyRingFile, "active=k1\nhmac.k1=" + SECRET + "\n");
+        JwtKeyManager keyManager = keyManager("", keyRingFile.toString());
+        String oldToken = sign(keyManager);
+
+        Files.writeString(keyRingFile, "active=k2\nhmac.k1=" + SECRET + "\nhmac.k2=" + NEXT_SECRET + "\n");
+        Files.setLastModifiedTime(keyRingFile, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+        keyManager.reload();
+
+        assertThat(parse(keyManager, sign(keyManager)).getHeader().getKeyId()).isEqualTo("k2");
+        assertThat(parse(keyManager, oldToken).getHeader().getKeyId()).isEqualTo("k1");
+    }
+
+    @Test
+    void 사용중인_서명키는_폐기할_수_없음() {
+        JwtKeyManager keyManager = keyManager("main", "");
+
+        assertThatThrownBy(() -> keyManager.revokeKey("main")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+
+    private JwtKeyManager keyManager(String kid, String keyRingPath) {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 10, new SimpleMeterRegistry());
+        JwtKeyManager keyManager = new JwtKeyManager(cache, SECRET, JwtKeyManager.SigningAlgorithm.HMAC, kid, "", "", keyRingPath);
+        keyManager.init();
+        return keyManager;
+    }
+
+    private String sign(JwtKeyManager keyManager) {
+        JwtKeyRing keyRing = keyManager.getKeyRing();
+        JwtKeyRing.VerificationKey signingKey = keyRing.getSigningKey();
+        JwtBuilder builder = Jwts.builder().setSubject("1");
+        if (signingKey.getKid() != null) builder.setHeaderParam("kid", signingKey.getKid());
+        return builder.signWith(keyRing.getSigningPrivateKey(), signingKey.getAlgorithm()).compact();
+    }
+
+    private Jws<Claims> parse(JwtKeyManager keyManager, String jws) {
+        return Jwts.parserBuilder().setSigningKeyResolver(keyManager).build().parseClaimsJws(jws);
+    }
+}
@@ -0,0 +1,112 @@
+package neoguri.springTemplate.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenClaimsTest {
+
+    private static final SecretKey KEY = Keys.hmacShaKeyFor("token-claims-test-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void COMPACT_형식_서명후_복원() {
+        Map<String, Object> claims = new HashMap<>();
+        TokenClaims.putCompactClaims(claims, "member@test.com", List.of("ADMIN", "USER"));
+
+        TokenClaims tokenClaims = TokenClaims.from(roundTrip(claims, "7"));
+
+        assertThat(tokenClaims.getVersion()).isEqualTo(TokenClaims.COMPACT_VERSION);
+        assertThat(tokenClaims.getMemberId()).isEqualTo(7L);
+        assertThat(tokenClaims.getEmail()).isEqualTo("member@test.com");
+        assertThat(tokenClaims.getRoles()).containsExactly("ADMIN", "USER");
+    }
+
+    @Test
+    void COMPACT_형식은_ROLE을_비트마스크로_저장() {
+        Map<String, Object> claims = new HashMap<>();
+        TokenClaims.putCompactClaims(claims, "member@test.com", List.of("USER"));
+
+        assertThat(claims.get(TokenClaims.COMPACT_ROLE_CLAIM)).isEqualTo(2);
+        assertThat(claims).doesNotContainKeys(TokenClaims.LEGACY_EMAIL_CLAIM, TokenClaims.LEGACY_ROLE_CLAIM, TokenClaims.LEGACY_ID_CLAIM);
+    }
+
+    @Test
+    void 알수없는_ROLE은_목록_그대로_복원() {
+        Map<String, Object> claims = new HashMap<>();
+        TokenClaims.putCompactClaims(claims, "member@test.com", List.of("USER", "MANAGER"));
+
+        TokenClaims tokenClaims = TokenClaims.from(roundTrip(claims, "7"));
+
+        assertThat(tokenClaims.getRoles()).containsExactly("USER", "MANAGER");
+    }
+
+    @Test
+    void 버전이_없으면_LEGACY로_해석() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TokenClaims.LEGACY_EMAIL_CLAIM, "member@test.com");
+        claims.put(TokenClaims.LEGACY_ROLE_CLAIM, List.of("USER"));
+        claims.put(TokenClaims.LEGACY_ID_CLAIM, 7);
+
+        TokenClaims tokenClaims = TokenClaims.from(roundTrip(claims, "7"));
+
+        assertThat(tokenClaims.getVersion()).isEqualTo(TokenClaims.LEGACY_VERSION);
+        assertThat(tokenClaims.getMemberId()).isEqualTo(7L);
+        assertThat(tokenClaims.getEmail()).isEqualTo("member@test.com");
+        assertThat(tokenClaims.getRoles()).containsExactly("USER");
+    }
+
+    @Test
+    void LEGACY_형식에_subject가_없으면_id_클레임_사용() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TokenClaims.LEGACY_EMAIL_CLAIM, "member@test.com");
+        claims.put(TokenClaims.LEGACY_ID_CLAIM, 7);
+
+        TokenClaims tokenClaims = TokenClaims.from(roundTrip(claims, null));
+
+        assertThat(tokenClaims.getMemberId()).isEqualTo(7L);
+        assertThat(tokenClaims.getRoles()).isEmpty();
+    }
+
+    @Test
+    void 문자열이_아닌_ROLE이_섞여있으면_빈_목록() {
+        assertThat(TokenClaims.toRoles(List.of("USER", 1))).isEmpty();
+        assertThat(TokenClaims.toRoles("USER")).isEmpty();
+        assertThat(TokenClaims.toRoles(List.of("USER"))).containsExactly("USER");
+    }
+
+    @Test
+    void ROLE_목록은_원본과_분리된_불변_복사본() {
+        List<Object> source = new ArrayList<>(List.of("USER"));
+        List<String> roles = TokenClaims.toRoles(source);
+
+        source.add("ADMIN");
+
+        assertThat(roles).containsExactly("USER");
+        assertThatThrownBy(() -> roles.add("ADMIN")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+
+    /**
+     * 실제 토큰으로 서명/검증 (JSON 직렬화를 거치면서 숫자/목록 타입이 바뀌는 것까지 확인)
+     */
+    private static Claims roundTrip(Map<String, Object> claims, String subject) {
+        String jws = Jwts.builder()
+                .setClaims(claims)
+                .setSubject(subject)
+                .signWith(KEY)
+                .compact();
+
+        return Jwts.parserBuilder().setSigningKey(KEY).build().parseClaimsJws(jws).getBody();
+    }
+}
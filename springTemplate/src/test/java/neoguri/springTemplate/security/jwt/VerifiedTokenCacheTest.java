@@ -0,0 +1,66 @@
+package neoguri.springTemplate.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(true, 10, new SimpleMeterRegistry());
+
+
+    @Test
+    void 캐싱된_Claims는_수정할_수_없음() {
+        Claims claims = cache.get("token", this::verify);
+
+        assertThatThrownBy(() -> claims.put("username", "other@test.com")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> claims.setSubject("2")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> claims.entrySet().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> ((List<?>) claims.get("role")).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void 같은_토큰은_검증_결과를_재사용() {
+        Claims first = cache.get("token", this::verify);
+        Claims second = cache.get("token", jws -> { throw new AssertionError("cache miss"); });
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getSubject()).isEqualTo("1");
+        assertThat(second.get("role", List.class)).containsExactly("USER");
+        assertThat(second.getExpiration()).isInTheFuture();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 원본_Claims를_바꿔도_캐시에는_영향없음() {
+        Claims original = verify("token");
+        cache.get("token", jws -> original);
+
+        original.put("username", "other@test.com");
+        ((List<Object>) original.get("role")).add("ADMIN");
+
+        Claims cached = cache.get("token", this::verify);
+        assertThat(cached.get("username")).isEqualTo("user@test.com");
+        assertThat(cached.get("role", List.class)).containsExactly("USER");
+    }
+
+
+    /**
+     * 파싱 결과처럼 role은 수정 가능한 List로 채움
+     */
+    private Claims verify(String jws) {
+        Claims claims = Jwts.claims(Map.of("username", "user@test.com", "role", new ArrayList<>(List.of("USER"))));
+        claims.setSubject("1");
+        claims.setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        return claims;
+    }
+}
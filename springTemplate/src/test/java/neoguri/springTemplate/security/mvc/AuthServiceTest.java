@@ -0,0 +1,141 @@
+package neoguri.springTemplate.security.mvc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import neoguri.springTemplate.config.CacheConfig;
+import neoguri.springTemplate.domain.member.entity.Member;
+import neoguri.springTemplate.exception.dto.BusinessLogicException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import neoguri.springTemplate.security.jwt.JwtKeyManager;
+import neoguri.springTemplate.security.jwt.JwtTokenizer;
+import neoguri.springTemplate.security.jwt.TokenClaims;
+import neoguri.springTemplate.security.jwt.VerifiedTokenCache;
+import neoguri.springTemplate.security.redis.RefreshTokenStore;
+import neoguri.springTemplate.security.userDetail.MemberAuthInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.ResponseCookie;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재발급은 DB 없이 RefreshToken Claims로 처리. Redis(RefreshTokenStore)는 mock
+ */
+class AuthServiceTest {
+
+    private static final int REFRESH_MINUTES = 1440;
+    private static final int SESSION_MAX_MINUTES = 10080;
+
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.MEMBER_DETAILS_CACHE);
+    private JwtTokenizer jwtTokenizer;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        String secret = "auth-service-test-secret-key-0123456789";
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(false, 10, new SimpleMeterRegistry());
+        JwtKeyManager keyManager = new JwtKeyManager(verifiedTokenCache, secret, JwtKeyManager.SigningAlgorithm.HMAC, "", "", "", "");
+        keyManager.init();
+
+        jwtTokenizer = new JwtTokenizer(verifiedTokenCache, keyManager);
+        ReflectionTestUtils.setField(jwtTokenizer, "secretKey", secret);
+        ReflectionTestUtils.setField(jwtTokenizer, "accessTokenExpirationMinutes", 30);
+        ReflectionTestUtils.setField(jwtTokenizer, "refreshTokenExpirationMinutes", REFRESH_MINUTES);
+        ReflectionTestUtils.setField(jwtTokenizer, "refreshSessionMaxMinutes", SESSION_MAX_MINUTES);
+        ReflectionTestUtils.setField(jwtTokenizer, "tokenProfile", JwtTokenizer.TokenProfile.COMPACT);
+        jwtTokenizer.init();
+
+        authService = new AuthService(jwtTokenizer, refreshTokenStore, cacheManager);
+    }
+
+    @Test
+    void RefreshToken_Claims의_회원정보로_재발급() {
+        String refreshToken = jwtTokenizer.delegateRefreshToken(7L, "member@test.com", List.of("USER"));
+        givenRotateReturnsNewToken();
+
+        AuthService.TokenPair tokenPair = authService.reissue(refreshToken);
+
+        TokenClaims accessClaims = TokenClaims.from(jwtTokenizer.getVerifiedClaims(tokenPair.getAccessToken()));
+        assertThat(accessClaims.getMemberId()).isEqualTo(7L);
+        assertThat(accessClaims.getEmail()).isEqualTo("member@test.com");
+        assertThat(accessClaims.getRoles()).containsExactly("USER");
+        verify(refreshTokenStore, never()).revoke(anyLong());
+    }
+
+    @Test
+    void 유예시간_안의_동시_재발급은_먼저_발급된_RefreshToken을_응답() {
+        String refreshToken = jwtTokenizer.delegateRefreshToken(7L, "member@test.com", List.of("USER"));
+        String alreadyIssued = jwtTokenizer.delegateRefreshToken(7L, "member@test.com", List.of("USER"), new Date());
+        when(refreshTokenStore.rotate(eq(7L), eq(refreshToken), anyString(), any(Duration.class))).thenReturn(alreadyIssued);
+
+        AuthService.TokenPair tokenPair = authService.reissue(refreshToken);
+
+        assertThat(tokenPair.getRefreshToken()).isEqualTo(alreadyIssued);
+        assertThat(tokenPair.getAccessToken()).isNotNull();
+        verify(refreshTokenStore, never()).revoke(anyLong());
+    }
+
+    @Test
+    void 교체에_실패하면_재사용으로_보고_세션_삭제() {
+        String refreshToken = jwtTokenizer.delegateRefreshToken(7L, "member@test.com", List.of("USER"));
+
+        assertInvalidRefreshToken(refreshToken);
+        verify(refreshTokenStore).revoke(7L);
+    }
+
+    @Test
+    void 인증정보_캐시의_ROLE이_다르면_교체하지_않고_세션_삭제() {
+        String refreshToken = jwtTokenizer.delegateRefreshToken(7L, "member@test.com", List.of("ADMIN", "USER"));
+        cacheManager.getCache(CacheConfig.MEMBER_DETAILS_CACHE).put("member@test.com", authInfo(7L, "member@test.com", List.of("USER")));
+
+        assertInvalidRefreshToken(refreshToken);
+        verify(refreshTokenStore, never()).rotate(anyLong(), anyString(), anyString(), any(Duration.class));
+        verify(refreshTokenStore).revoke(7L);
+    }
+
+    @Test
+    void 쿠키_만료시간은_토큰의_exp까지() {
+        Date authTime = new Date(System.currentTimeMillis() - Duration.ofMinutes(SESSION_MAX_MINUTES - 5).toMillis());
+        String refreshToken = jwtTokenizer.delegateRefreshToken(7L, "member@test.com", List.of("USER"), authTime);
+
+        ResponseCookie cookie = jwtTokenizer.createRefreshTokenCookie(refreshToken);
+
+        assertThat(cookie.getMaxAge().getSeconds()).isBetween(290L, 300L);  // 세션 최대 시간까지 약 5분
+    }
+
+
+    private void givenRotateReturnsNewToken() {
+        when(refreshTokenStore.rotate(anyLong(), anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> invocation.getArgument(2));
+    }
+
+    private void assertInvalidRefreshToken(String refreshToken) {
+        assertThatThrownBy(() -> authService.reissue(refreshToken))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getExceptionCode())
+                .isEqualTo(ExceptionCode.INVALID_REFRESH_TOKEN);
+    }
+
+    private MemberAuthInfo authInfo(Long memberId, String email, List<String> roles) {
+        Member member = new Member();
+        member.setMemberId(memberId);
+        member.setEmail(email);
+        member.setRoles(roles);
+        return new MemberAuthInfo(member);
+    }
+}
@@ -0,0 +1,80 @@
+package neoguri.springTemplate.security.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import neoguri.springTemplate.exception.exceptionCode.AuthException;
+import neoguri.springTemplate.exception.exceptionCode.ExceptionCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * matches는 release 전까지 끝나지 않는 가짜 encoder
+     */
+    private final PasswordEncoder blockingDelegate = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try { return release.await(5, TimeUnit.SECONDS); }
+            catch (InterruptedException e) { return false; }
+        }
+    };
+
+
+    @Test
+    void 스레드와_대기열이_가득차면_matches는_LOGIN_OVERLOADED() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingDelegate, 1, 1, 50, new SimpleMeterRegistry());
+        try {
+            CompletableFuture.runAsync(() -> encoder.matches("a", "x"));  // 실행중
+            CompletableFuture.runAsync(() -> encoder.matches("b", "x"));  // 대기열
+
+            assertThatThrownBy(() -> encoder.matches("c", "x"))
+                    .isInstanceOf(AuthException.class)
+                    .extracting(e -> ((AuthException) e).getExceptionCode())
+                    .isEqualTo(ExceptionCode.LOGIN_OVERLOADED);
+        } finally {
+            release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void encode는_스레드풀이_가득차도_호출_스레드에서_실행() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingDelegate, 1, 1, 50, new SimpleMeterRegistry());
+        try {
+            CompletableFuture.runAsync(() -> encoder.matches("a", "x"));
+            CompletableFuture.runAsync(() -> encoder.matches("b", "x"));
+
+            assertThat(encoder.encode("pw")).isEqualTo("hashed:pw");
+        } finally {
+            release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void 직접_지정한_strength는_범위로_제한() {
+        assertThat(BcryptStrengthCalibrator.clamp(8, 10, 14)).isEqualTo(10);
+        assertThat(BcryptStrengthCalibrator.clamp(16, 10, 14)).isEqualTo(14);
+        assertThat(BcryptStrengthCalibrator.clamp(12, 10, 14)).isEqualTo(12);
+    }
+
+    @Test
+    void 잘못된_strength_범위는_기동_실패() {
+        assertThatThrownBy(() -> BcryptStrengthCalibrator.clamp(12, 14, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BcryptStrengthCalibrator.clamp(12, 3, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,212 @@
+package neoguri.springTemplate.security.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import neoguri.springTemplate.security.jwt.TokenDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis는 Map으로 흉내낸 StringRedisTemplate / ReactiveStringRedisTemplate을 사용 (여러 인스턴스가 같은 Map을 공유)
+ */
+class LogoutDenylistTest {
+
+    private static final long TEN_MINUTES = 600_000L;
+
+    private final Map<String, String> values = new HashMap<>();
+    private final Map<String, Double> index = new HashMap<>();  // logout:index (digest -> 만료시각)
+    private final List<String> published = new ArrayList<>();
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate = mock(ReactiveStringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ReactiveValueOperations<String, String> reactiveValueOperations = mock(ReactiveValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(reactiveValueOperations);
+
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> values.get((String) invocation.getArgument(0)));
+        when(valueOperations.multiGet(anyList())).thenAnswer(invocation -> multiGet(invocation.getArgument(0)));
+        when(reactiveValueOperations.get(anyString())).thenAnswer(invocation -> Mono.justOrEmpty(values.get((String) invocation.getArgument(0))));
+        when(reactiveValueOperations.multiGet(anyList())).thenAnswer(invocation -> Mono.just(multiGet(invocation.getArgument(0))));
+
+        when(zSetOperations.removeRangeByScore(eq(LogoutDenylist.INDEX_KEY), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            double max = invocation.getArgument(2);
+            long before = index.size();
+            index.values().removeIf(expiresAt -> expiresAt <= max);
+            return before - index.size();
+        });
+        when(zSetOperations.rangeByScore(eq(LogoutDenylist.INDEX_KEY), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            double min = invocation.getArgument(1);
+            Set<String> digests = new LinkedHashSet<>();
+            index.forEach((digest, expiresAt) -> { if (expiresAt >= min) digests.add(digest); });
+            return digests;
+        });
+
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            StringRedisConnection connection = mock(StringRedisConnection.class);
+            when(connection.pSetEx(anyString(), anyLong(), anyString())).thenAnswer(call -> {
+                values.put(call.getArgument(0), call.getArgument(2));
+                return true;
+            });
+            when(connection.zAdd(anyString(), anyDouble(), anyString())).thenAnswer(call -> {
+                index.put(call.getArgument(2), call.getArgument(1));
+                return true;
+            });
+            when(connection.publish(anyString(), anyString())).thenAnswer(call -> {
+                published.add(call.getArgument(1));
+                return 1L;
+            });
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+    }
+
+
+    @Test
+    void 로그아웃하지_않은_토큰은_Redis를_조회하지_않음() {
+        LogoutDenylist denylist = newDenylist(false);
+
+        assertThat(denylist.isLoggedOut("token-a")).isFalse();
+        verify(valueOperations, never()).get(anyString());
+        verify(valueOperations, never()).multiGet(anyList());
+    }
+
+    @Test
+    void 로그아웃한_토큰은_차단되고_Redis에는_다이제스트_키로_저장() {
+        LogoutDenylist denylist = newDenylist(false);
+
+        denylist.logout("token-a", TEN_MINUTES);
+
+        assertThat(denylist.isLoggedOut("token-a")).isTrue();
+        assertThat(denylist.isLoggedOut("token-b")).isFalse();
+        assertThat(values).containsEntry(LogoutDenylist.KEY_PREFIX + TokenDigest.digest("token-a"), LogoutDenylist.LOGOUT_VALUE);
+        assertThat(values).doesNotContainKey("token-a");
+        assertThat(published).containsExactly(TokenDigest.digest("token-a"));
+    }
+
+    @Test
+    void 다른_인스턴스의_로그아웃은_pub_sub_메세지로_반영() {
+        LogoutDenylist node1 = newDenylist(false);
+        LogoutDenylist node2 = newDenylist(false);
+
+        node1.logout("token-a", TEN_MINUTES);
+        node2.onMessage(new DefaultMessage(LogoutDenylist.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                published.get(0).getBytes(StandardCharsets.US_ASCII)), null);
+
+        clearInvocations(valueOperations);
+        assertThat(node2.isLoggedOut("token-a")).isTrue();
+        verify(valueOperations, never()).get(anyString());  // 로컬 캐시에서 판단
+    }
+
+    @Test
+    void 기동시_인덱스로_Bloom_Filter를_만들어_이전_로그아웃도_반영() {
+        newDenylist(false).logout("token-a", TEN_MINUTES);
+
+        LogoutDenylist restarted = newDenylist(false);
+
+        assertThat(restarted.isLoggedOut("token-a")).isTrue();
+    }
+
+    @Test
+    void 재생성시_만료된_인덱스는_정리() {
+        index.put(TokenDigest.digest("expired"), (double) (System.currentTimeMillis() - 1000));
+
+        newDenylist(false);
+
+        assertThat(index).doesNotContainKey(TokenDigest.digest("expired"));
+    }
+
+    @Test
+    void 이전_방식_키는_Bloom_Filter가_만들어진_뒤에도_조회() {
+        values.put("legacy-token", LogoutDenylist.LOGOUT_VALUE);  // 마이그레이션 전 : 토큰 원문 키
+
+        LogoutDenylist denylist = newDenylist(true);
+
+        assertThat(denylist.isLoggedOut("legacy-token")).isTrue();
+        assertThat(denylist.isLoggedOut("token-b")).isFalse();
+    }
+
+    @Test
+    void 이전_방식_키_reactive_조회() {
+        values.put("legacy-token", LogoutDenylist.LOGOUT_VALUE);
+
+        LogoutDenylist denylist = newDenylist(true);
+
+        assertThat(denylist.isLoggedOutReactive("legacy-token").block()).isTrue();
+        assertThat(denylist.isLoggedOutReactive("token-b").block()).isFalse();
+    }
+
+    @Test
+    void 이전_방식_조회를_끄면_원문_키는_무시() {
+        values.put("legacy-token", LogoutDenylist.LOGOUT_VALUE);
+
+        LogoutDenylist denylist = newDenylist(false);
+
+        assertThat(denylist.isLoggedOut("legacy-token")).isFalse();
+    }
+
+    @Test
+    void Bloom_Filter_생성에_실패하면_매번_Redis_조회() {
+        when(zSetOperations.rangeByScore(eq(LogoutDenylist.INDEX_KEY), anyDouble(), anyDouble())).thenThrow(new IllegalStateException("redis down"));
+        values.put(LogoutDenylist.KEY_PREFIX + TokenDigest.digest("token-a"), LogoutDenylist.LOGOUT_VALUE);
+
+        LogoutDenylist denylist = newDenylist(false);
+
+        assertThat(denylist.isLoggedOut("token-a")).isTrue();
+        assertThat(denylist.isLoggedOut("token-b")).isFalse();
+        verify(valueOperations).get(LogoutDenylist.KEY_PREFIX + TokenDigest.digest("token-b"));
+    }
+
+
+    private LogoutDenylist newDenylist(boolean legacyKeyFallback) {
+        LogoutDenylist denylist = new LogoutDenylist(redisTemplate, reactiveRedisTemplate, mock(RedisMessageListenerContainer.class),
+                new SimpleMeterRegistry(), 10_000, 0.01, 60, legacyKeyFallback);
+        denylist.init();
+        return denylist;
+    }
+
+    private List<String> multiGet(List<String> keys) {
+        List<String> result = new ArrayList<>(keys.size());
+        for (String key : keys) result.add(values.get(key));
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+package neoguri.springTemplate.security.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import neoguri.springTemplate.exception.exceptionCode.AuthException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenStoreTest {
+
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate = mock(ReactiveStringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ReactiveValueOperations<String, String> valueOperations = mock(ReactiveValueOperations.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger subscriptions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void ASYNC_saveReactive는_구독해야_저장() {
+        givenWrite(Mono.just(true));
+        Mono<Void> save = store(RefreshTokenStore.WriteMode.ASYNC).saveReactive(1L, "refresh-token");
+
+        assertThat(subscriptions).hasValue(0);
+        save.block();
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    void ASYNC_저장_실패는_에러없이_메트릭만_증가() {
+        givenWrite(Mono.error(new IllegalStateException("redis down")));
+
+        store(RefreshTokenStore.WriteMode.ASYNC).saveReactive(1L, "refresh-token").block();
+
+        assertThat(meterRegistry.counter("jwt.refresh-token.write.failures").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void SYNC_저장_실패는_AuthException() {
+        givenWrite(Mono.error(new IllegalStateException("redis down")));
+        RefreshTokenStore store = store(RefreshTokenStore.WriteMode.SYNC);
+
+        assertThatThrownBy(() -> store.saveReactive(1L, "refresh-token").block()).isInstanceOf(AuthException.class);
+        assertThatThrownBy(() -> store.save(1L, "refresh-token")).isInstanceOf(AuthException.class);
+    }
+
+    @Test
+    void SYNC_저장되지_않으면_AuthException() {
+        givenWrite(Mono.just(false));
+
+        assertThatThrownBy(() -> store(RefreshTokenStore.WriteMode.SYNC).saveReactive(1L, "refresh-token").block())
+                .isInstanceOf(AuthException.class);
+    }
+
+
+    private void givenWrite(Mono<Boolean> result) {
+        when(valueOperations.set(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(result.doOnSubscribe(subscription -> subscriptions.incrementAndGet()));
+    }
+
+    private RefreshTokenStore store(RefreshTokenStore.WriteMode writeMode) {
+        return new RefreshTokenStore(mock(StringRedisTemplate.class), reactiveRedisTemplate, meterRegistry,
+                "RTKey", 60, writeMode, 500, 10);
+    }
+}
@@ -0,0 +1,101 @@
+package neoguri.springTemplate.security.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CustomAuthorityUtilsTest {
+
+    private final CustomAuthorityUtils customAuthorityUtils = new CustomAuthorityUtils();
+
+    @Test
+    void 같은_ROLE_조합이면_같은_인스턴스() {
+        List<GrantedAuthority> first = customAuthorityUtils.createAuthorities(new ArrayList<>(List.of("ADMIN", "USER")));
+        List<GrantedAuthority> second = customAuthorityUtils.createAuthorities(new ArrayList<>(List.of("ADMIN", "USER")));
+
+        assertThat(second).isSameAs(first);
+        assertThat(AuthorityUtils.authorityListToSet(first)).containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+    }
+
+    @Test
+    void 처음_보는_ROLE_조합도_캐싱() {
+        List<GrantedAuthority> first = customAuthorityUtils.createAuthorities(List.of("MANAGER"));
+        List<GrantedAuthority> second = customAuthorityUtils.createAuthorities(new ArrayList<>(List.of("MANAGER")));
+
+        assertThat(second).isSameAs(first);
+        assertThat(AuthorityUtils.authorityListToSet(first)).containsExactly("ROLE_MANAGER");
+    }
+
+    @Test
+    void 입력_목록을_바꿔도_캐시는_그대로() {
+        List<String> roles = new ArrayList<>(List.of("EDITOR"));
+        List<GrantedAuthority> authorities = customAuthorityUtils.createAuthorities(roles);
+        roles.set(0, "ADMIN");
+
+        assertThat(customAuthorityUtils.createAuthorities(List.of("EDITOR"))).isSameAs(authorities);
+    }
+
+    @Test
+    void ROLE_순서와_중복은_무시() {
+        List<GrantedAuthority> admin = customAuthorityUtils.createAuthorities(List.of("ADMIN", "USER"));
+
+        assertThat(customAuthorityUtils.createAuthorities(List.of("USER", "ADMIN"))).isSameAs(admin);
+        assertThat(customAuthorityUtils.createAuthorities(List.of("USER", "ADMIN", "USER"))).isSameAs(admin);
+        assertThat(customAuthorityUtils.createAuthorities(List.of("MANAGER", "USER")))
+                .isSameAs(customAuthorityUtils.createAuthorities(List.of("USER", "MANAGER", "MANAGER")));
+    }
+
+    @Test
+    void 처음_보는_조합이_많아도_같은_결과() {
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(AuthorityUtils.authorityListToSet(customAuthorityUtils.createAuthorities(List.of("ROLE" + i, "USER"))))
+                    .containsExactlyInAnyOrder("ROLE_ROLE" + i, "ROLE_USER");
+        }
+        assertThat(customAuthorityUtils.createAuthorities(List.of("MANAGER")))
+                .isSameAs(customAuthorityUtils.createAuthorities(List.of("MANAGER")));
+    }
+
+    @Test
+    void 권한_목록은_불변() {
+        List<GrantedAuthority> authorities = customAuthorityUtils.createAuthorities(List.of("USER"));
+
+        assertThatThrownBy(() -> authorities.add(null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void ROLE이_없으면_빈_권한() {
+        assertThat(customAuthorityUtils.createAuthorities((List<String>) null)).isEmpty();
+        assertThat(customAuthorityUtils.createAuthorities(List.of())).isEmpty();
+    }
+
+    @Test
+    void 캐시된_조합_조회시_객체를_생성하지_않음() {
+        com.sun.management.ThreadMXBean threadMXBean = threadMXBean();
+        List<String> roles = new ArrayList<>(List.of("ADMIN", "USER"));  // DB에서 읽은 것처럼 매번 다른 List 구현체
+
+        for (int i = 0; i < 100_000; i++) customAuthorityUtils.createAuthorities(roles);  // JIT 컴파일 (equals의 iterator 등 escape analysis)
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) customAuthorityUtils.createAuthorities(roles);
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(allocated).isLessThan(10_000L);  // 호출당 1byte 미만 (측정 자체의 할당만 허용)
+    }
+
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        return threadMXBean;
+    }
+}
@@ -0,0 +1,59 @@
+package neoguri.springTemplate.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void 넣은_값은_항상_있을수도_있음() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) filter.put(sha256("member" + i + "@test.com"));
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain(sha256("member" + i + "@test.com"))).isTrue();
+        }
+    }
+
+    @Test
+    void 빈_필터는_확실히_없음() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        assertThat(filter.mightContain(sha256("none@test.com"))).isFalse();
+    }
+
+    @Test
+    void 오탐률은_지정한_비율_근처로_유지() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put(sha256("member" + i));
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(sha256("other" + i))) falsePositives++;
+        }
+
+        assertThat(falsePositives).isLessThan(300);  // 목표 1% (100건), 여유를 두고 3% 미만
+    }
+
+    @Test
+    void 예상_개수가_0이어도_생성됨() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+        filter.put(sha256("a"));
+
+        assertThat(filter.mightContain(sha256("a"))).isTrue();
+    }
+
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
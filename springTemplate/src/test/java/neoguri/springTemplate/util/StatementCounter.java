@@ -0,0 +1,48 @@
+package neoguri.springTemplate.util;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * 실행된 SQL을 기록하는 테스트용 p6spy 리스너
+ * p6spy-spring-boot-starter가 컨텍스트의 JdbcEventListener 빈을 DataSource에 등록하므로, @DataJpaTest 등에서 @Import(StatementCounter.class)로 사용
+ * 실행(execute, executeQuery, executeUpdate, executeBatch) 1번을 DB 왕복 1회로 셈. 배치는 addBatch 횟수와 상관없이 1회
+ */
+public class StatementCounter extends SimpleJdbcEventListener {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        statements.add(statementInformation.getSql());
+    }
+
+
+    public void reset() {
+        statements.clear();
+    }
+
+    public int count() {
+        return statements.size();
+    }
+
+    /**
+     * @param command select, insert, update, delete 등 SQL의 첫 단어
+     */
+    public int count(String command) {
+        String prefix = command.toLowerCase(Locale.ROOT);
+        return (int) statements.stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .count();
+    }
+
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+}